@@ -0,0 +1,84 @@
+package de.danielkoellgen.srscsdeckservice.commands.deckcards;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform-thread and virtual-thread command workers on commands that mostly wait on a slow Mongo. The
+ * stub blocks for a fixed round trip the way the synchronous driver does, so throughput is bound by how many
+ * workers can wait at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyedCommandExecutorBenchmark {
+
+    private static final int COMMANDS_PER_INVOCATION = 2048;
+
+    @Param({"false", "true"})
+    public boolean virtualThreadsEnabled;
+
+    @Param({"16", "256", "1024"})
+    public int workerCount;
+
+    @Param({"5"})
+    public long mongoLatencyMs;
+
+    private KeyedCommandExecutor commandExecutor;
+    private DelayingMongoStub mongoStub;
+    private UUID[] deckIds;
+
+    @Setup
+    public void setUp() {
+        commandExecutor = new KeyedCommandExecutor(new SimpleMeterRegistry(), workerCount, 256,
+                virtualThreadsEnabled);
+        mongoStub = new DelayingMongoStub(Duration.ofMillis(mongoLatencyMs));
+        deckIds = new UUID[COMMANDS_PER_INVOCATION];
+        for (int i = 0; i < deckIds.length; i++) {
+            deckIds[i] = UUID.randomUUID();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        commandExecutor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMANDS_PER_INVOCATION)
+    public void executeCommandsAgainstSlowMongo() throws Exception {
+        CountDownLatch completed = new CountDownLatch(COMMANDS_PER_INVOCATION);
+        for (UUID deckId : deckIds) {
+            commandExecutor.submit(deckId, () -> {
+                mongoStub.roundTrip();
+                completed.countDown();
+            });
+        }
+        completed.await();
+    }
+
+    private record DelayingMongoStub(Duration latency) {
+
+        void roundTrip() {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
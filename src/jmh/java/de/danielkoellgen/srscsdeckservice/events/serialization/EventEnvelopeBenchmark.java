@@ -0,0 +1,71 @@
+package de.danielkoellgen.srscsdeckservice.events.serialization;
+
+import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
+import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.CardCreated;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardCreatedDto;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventEnvelopeBenchmark {
+
+    private ProducerRecord<String, byte[]> jsonRecord;
+    private ProducerRecord<String, byte[]> cborRecord;
+
+    @Setup
+    public void setUp() {
+        CardCreated cardCreated = new CardCreated(UUID.randomUUID().toString(), UUID.randomUUID(),
+                new CardCreatedDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+        jsonRecord = KafkaProducer.makeRecord(cardCreated, EventContentType.JSON);
+        cborRecord = KafkaProducer.makeRecord(cardCreated, EventContentType.CBOR);
+        System.out.printf("%nBytes on the wire per record: json=%d, cbor=%d%n",
+                getSizeOnWire(jsonRecord), getSizeOnWire(cborRecord));
+    }
+
+    @Benchmark
+    public void decodeJsonRecord(Blackhole blackhole) throws Exception {
+        decode(jsonRecord, blackhole);
+    }
+
+    @Benchmark
+    public void decodeCborRecord(Blackhole blackhole) throws Exception {
+        decode(cborRecord, blackhole);
+    }
+
+    private static void decode(ProducerRecord<String, byte[]> record, Blackhole blackhole) throws Exception {
+        Headers headers = record.headers();
+        EventContentType contentType = EventEnvelope.readContentType(headers);
+        UUID eventId = EventEnvelope.readUuid(headers, "eventId", contentType);
+        UUID correlationId = EventEnvelope.readUuid(headers, "correlationId", contentType);
+        EventDateTime occurredAt = EventEnvelope.readTimestamp(headers, "timestamp", contentType);
+        blackhole.consume(eventId);
+        blackhole.consume(correlationId);
+        blackhole.consume(occurredAt);
+        blackhole.consume(EventEnvelope.readString(headers, "transactionId"));
+        blackhole.consume(EventEnvelope.readString(headers, "type"));
+        blackhole.consume(EventSerializer.deserialize(record.value(), contentType, CardCreatedDto.class));
+    }
+
+    private static int getSizeOnWire(ProducerRecord<String, byte[]> record) {
+        int size = record.key().length() + record.value().length;
+        for (Header header : record.headers()) {
+            size += header.key().length() + header.value().length;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,60 @@
+package de.danielkoellgen.srscsdeckservice.events.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import de.danielkoellgen.srscsdeckservice.commands.deckcards.dto.CloneDeckDto;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardCreatedDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventSerializationBenchmark {
+
+    private CardCreatedDto cardCreatedDto;
+    private String serializedCloneDeckDto;
+
+    private ObjectWriter blackbirdWriter;
+
+    @Setup
+    public void setUp() {
+        cardCreatedDto = new CardCreatedDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        serializedCloneDeckDto = EventSerializer.serialize(
+                new CloneDeckDto(UUID.randomUUID(), UUID.randomUUID(), "anyDeckName"));
+        blackbirdWriter = EventSerializer.makeMapper(true).writerFor(CardCreatedDto.class);
+    }
+
+    @Benchmark
+    public String serializeWithNewMapperPerEvent() throws Exception {
+        return new ObjectMapper().findAndRegisterModules().writeValueAsString(cardCreatedDto);
+    }
+
+    @Benchmark
+    public String serializeWithCachedWriter() {
+        return EventSerializer.serialize(cardCreatedDto);
+    }
+
+    @Benchmark
+    public String serializeWithBlackbirdWriter() throws Exception {
+        return blackbirdWriter.writeValueAsString(cardCreatedDto);
+    }
+
+    @Benchmark
+    public CloneDeckDto deserializeWithNewMapperPerEvent() throws Exception {
+        return new ObjectMapper().findAndRegisterModules().readValue(serializedCloneDeckDto, CloneDeckDto.class);
+    }
+
+    @Benchmark
+    public CloneDeckDto deserializeWithCachedReader() throws Exception {
+        return EventSerializer.deserialize(serializedCloneDeckDto, CloneDeckDto.class);
+    }
+}
@@ -0,0 +1,20 @@
+package de.danielkoellgen.srscsdeckservice;
+
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventSerializationConfig {
+
+    private final Logger log = LoggerFactory.getLogger(EventSerializationConfig.class);
+
+    @Autowired
+    public EventSerializationConfig(@Value("${events.serialization.blackbird:false}") Boolean blackbirdEnabled) {
+        EventSerializer.useBlackbird(blackbirdEnabled);
+        log.info("Event serialization set up. Blackbird: {}.", blackbirdEnabled);
+    }
+}
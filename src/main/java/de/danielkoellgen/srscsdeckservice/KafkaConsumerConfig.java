@@ -1,14 +1,28 @@
 package de.danielkoellgen.srscsdeckservice;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import de.danielkoellgen.srscsdeckservice.events.retry.FailedRecordRecoverer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -16,34 +30,103 @@ import java.util.Map;
 @Configuration
 public class KafkaConsumerConfig {
 
+    private final MeterRegistry meterRegistry;
+
     private final String bootstrapAddress;
     private final String groupId;
+    private final String autoOffsetReset;
+    private final Long transactionalRetryIntervalMs;
+    private final Long transactionalRetryAttempts;
+    private final Long batchRetryIntervalMs;
+    private final Long batchRetryAttempts;
 
     @Autowired
     public KafkaConsumerConfig(
+            MeterRegistry meterRegistry,
             @Value("${kafka.bootstrapAddress}") String bootstrapAddress,
-            @Value("${kafka.groupId}") String groupId
+            @Value("${kafka.groupId}") String groupId,
+            @Value("${kafka.consumer.autoOffsetReset:latest}") String autoOffsetReset,
+            @Value("${kafka.consumer.commands.transactionalRetryIntervalMs:1000}") Long transactionalRetryIntervalMs,
+            @Value("${kafka.consumer.commands.transactionalRetryAttempts:2}") Long transactionalRetryAttempts,
+            @Value("${kafka.consumer.users.batchRetryIntervalMs:1000}") Long batchRetryIntervalMs,
+            @Value("${kafka.consumer.users.batchRetryAttempts:2}") Long batchRetryAttempts
     ) {
+        this.meterRegistry = meterRegistry;
         this.bootstrapAddress = bootstrapAddress;
         this.groupId = groupId;
+        this.autoOffsetReset = autoOffsetReset;
+        this.transactionalRetryIntervalMs = transactionalRetryIntervalMs;
+        this.transactionalRetryAttempts = transactionalRetryAttempts;
+        this.batchRetryIntervalMs = batchRetryIntervalMs;
+        this.batchRetryAttempts = batchRetryAttempts;
     }
 
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        return new DefaultKafkaConsumerFactory<>(props);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        DefaultKafkaConsumerFactory<String, byte[]> factory = new DefaultKafkaConsumerFactory<>(props);
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String>
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]>
     kafkaListenerContainerFactory() {
+        return makeContainerFactory();
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]>
+    commandListenerContainerFactory() {
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = makeContainerFactory();
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]>
+    transactionalCommandListenerContainerFactory(
+            @Qualifier("transactionalProducerFactory") ProducerFactory<String, byte[]> producerFactory,
+            @Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, byte[]> transactionalKafkaTemplate,
+            FailedRecordRecoverer failedRecordRecoverer) {
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = makeContainerFactory();
+        factory.getContainerProperties().setTransactionManager(new KafkaTransactionManager<>(producerFactory));
+        // Retries in place after a rollback, then forwards the record and commits its offset in a new transaction.
+        DefaultAfterRollbackProcessor<String, byte[]> afterRollbackProcessor = new DefaultAfterRollbackProcessor<>(
+                failedRecordRecoverer.makeTransactionalRecoverer(transactionalKafkaTemplate),
+                new FixedBackOff(transactionalRetryIntervalMs, transactionalRetryAttempts),
+                transactionalKafkaTemplate, true);
+        afterRollbackProcessor.addNotRetryableExceptions(JsonProcessingException.class, IllegalArgumentException.class);
+        factory.setAfterRollbackProcessor(afterRollbackProcessor);
+        return factory;
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]>
+    batchListenerContainerFactory(FailedRecordRecoverer failedRecordRecoverer) {
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = makeContainerFactory();
+        factory.setBatchListener(true);
+        // Retries the whole batch in place, then dead-letters each of its records instead of skipping them.
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                (record, exception) -> failedRecordRecoverer.sendToDeadLetter(
+                        (ConsumerRecord<String, byte[]>) record, exception),
+                new FixedBackOff(batchRetryIntervalMs, batchRetryAttempts)));
+        return factory;
+    }
 
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+    private ConcurrentKafkaListenerContainerFactory<String, byte[]> makeContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         return factory;
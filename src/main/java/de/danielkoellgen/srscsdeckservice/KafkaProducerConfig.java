@@ -1,12 +1,16 @@
 package de.danielkoellgen.srscsdeckservice;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
@@ -16,24 +20,75 @@ import java.util.Map;
 @Configuration
 public class KafkaProducerConfig {
 
+    private final MeterRegistry meterRegistry;
+
     private final String bootstrapAddress;
+    private final Integer lingerMs;
+    private final Integer batchSize;
+    private final String compressionType;
+    private final String transactionIdPrefix;
+    private final Integer transactionTimeoutMs;
 
     @Autowired
-    public KafkaProducerConfig(@Value("${kafka.bootstrapAddress}") String bootstrapAddress) {
+    public KafkaProducerConfig(
+            MeterRegistry meterRegistry,
+            @Value("${kafka.bootstrapAddress}") String bootstrapAddress,
+            @Value("${kafka.producer.lingerMs:10}") Integer lingerMs,
+            @Value("${kafka.producer.batchSize:65536}") Integer batchSize,
+            @Value("${kafka.producer.compressionType:lz4}") String compressionType,
+            @Value("${kafka.producer.transactionIdPrefix:deck-tx-}") String transactionIdPrefix,
+            @Value("${kafka.producer.transactionTimeoutMs:300000}") Integer transactionTimeoutMs
+    ) {
+        this.meterRegistry = meterRegistry;
         this.bootstrapAddress = bootstrapAddress;
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.transactionIdPrefix = transactionIdPrefix;
+        this.transactionTimeoutMs = transactionTimeoutMs;
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return new DefaultKafkaProducerFactory<>(configProps);
+    @Primary
+    public ProducerFactory<String, byte[]> producerFactory() {
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(makeProducerProps());
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public ProducerFactory<String, byte[]> transactionalProducerFactory() {
+        Map<String, Object> configProps = makeProducerProps();
+        // A transaction spans a whole command, a Deck-clone keeps it open while its Cards are copied.
+        configProps.put(ProducerConfig.TRANSACTION_TIMEOUT_CONFIG, transactionTimeoutMs);
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(configProps);
+        factory.setTransactionIdPrefix(transactionIdPrefix);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    @Primary
+    public KafkaTemplate<String, byte[]> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> transactionalKafkaTemplate() {
+        return new KafkaTemplate<>(transactionalProducerFactory());
+    }
+
+    private Map<String, Object> makeProducerProps() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        return configProps;
+    }
 }
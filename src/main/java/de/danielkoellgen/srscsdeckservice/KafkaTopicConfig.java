@@ -1,5 +1,6 @@
 package de.danielkoellgen.srscsdeckservice;
 
+import de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import org.springframework.kafka.core.KafkaAdmin;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @EnableKafka
 @Configuration
@@ -39,4 +41,14 @@ public class KafkaTopicConfig {
     public NewTopic pub_cdm_decksCards_0(){
         return new NewTopic("cmd.decks-cards.0", 1, (short) 1);
     }
+
+    @Bean
+    public KafkaAdmin.NewTopics retryAndDeadLetterTopics() {
+        return new KafkaAdmin.NewTopics(Stream.concat(
+                        RetryTopics.getRetryTopics("cmd.decks-cards.0").stream(),
+                        Stream.of(RetryTopics.getDeadLetterTopic("cmd.decks-cards.0"),
+                                RetryTopics.getDeadLetterTopic("cdc.users.0")))
+                .map(topic -> new NewTopic(topic, 1, (short) 1))
+                .toArray(NewTopic[]::new));
+    }
 }
@@ -2,6 +2,8 @@ package de.danielkoellgen.srscsdeckservice;
 
 import de.danielkoellgen.srscsdeckservice.converter.DurationToStringConverter;
 import de.danielkoellgen.srscsdeckservice.converter.StringToDurationConverter;
+import de.danielkoellgen.srscsdeckservice.events.consumer.backpressure.MongoLatencyTracker;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
@@ -19,4 +21,10 @@ public class MongoConfig {
         list.add(new StringToDurationConverter());
         return new MongoCustomConversions(list);
     }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoLatencyTrackerCustomizer(
+            MongoLatencyTracker mongoLatencyTracker) {
+        return builder -> builder.addCommandListener(mongoLatencyTracker);
+    }
 }
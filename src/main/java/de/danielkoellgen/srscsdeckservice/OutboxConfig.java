@@ -0,0 +1,31 @@
+package de.danielkoellgen.srscsdeckservice;
+
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Aggregate changes and their outboxed events are written in one Mongo transaction. Transactions require a
+ * replica set or a sharded cluster, so startup fails on a standalone server instead of silently losing atomicity.
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        verifyTransactionSupport(databaseFactory);
+        return new MongoTransactionManager(databaseFactory);
+    }
+
+    private static void verifyTransactionSupport(MongoDatabaseFactory databaseFactory) {
+        Document hello = databaseFactory.getMongoDatabase().runCommand(new Document("hello", 1));
+        if (!hello.containsKey("setName") && !"isdbgrid".equals(hello.getString("msg"))) {
+            throw new IllegalStateException("MongoDB does not support transactions. The outbox requires a " +
+                    "replica set or a sharded cluster.");
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package de.danielkoellgen.srscsdeckservice.commands.deckcards;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.commands.deckcards.dto.CloneCardDto;
 import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
 import de.danielkoellgen.srscsdeckservice.events.consumer.AbstractConsumerEvent;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import lombok.Getter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.jetbrains.annotations.NotNull;
@@ -16,26 +16,21 @@ public class CloneCard extends AbstractConsumerEvent {
     @Getter
     private final @NotNull CloneCardDto payload;
 
-    public CloneCard(@NotNull CardService cardService, @NotNull ConsumerRecord<String, String> event)
+    public CloneCard(@NotNull CardService cardService, @NotNull ConsumerRecord<String, byte[]> event)
             throws JsonProcessingException {
         super(event);
         this.cardService = cardService;
-        this.payload = CloneCardDto.makeFromSerialization(event.value());
+        this.payload = CloneCardDto.makeFromSerialization(event.value(), contentType);
     }
 
     @Override
     public void execute() {
-        cardService.cloneCard(correlationId, payload.referencedCardId(), payload.targetDeckId());
+        cardService.cloneCard(correlationId, eventId, payload.referencedCardId(), payload.targetDeckId());
     }
 
     @Override
     public @NotNull String getSerializedContent() {
-        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (Exception e) {
-            throw new RuntimeException("ObjectMapper conversion failed.");
-        }
+        return EventSerializer.serialize(payload);
     }
 
     @Override
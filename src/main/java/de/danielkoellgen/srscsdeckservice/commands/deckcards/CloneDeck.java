@@ -1,10 +1,12 @@
 package de.danielkoellgen.srscsdeckservice.commands.deckcards;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.commands.deckcards.dto.CloneDeckDto;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckCardCloner;
 import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
 import de.danielkoellgen.srscsdeckservice.events.consumer.AbstractConsumerEvent;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import lombok.Getter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.jetbrains.annotations.NotNull;
@@ -12,32 +14,30 @@ import org.jetbrains.annotations.NotNull;
 public class CloneDeck extends AbstractConsumerEvent {
 
     private final DeckService deckService;
+    private final DeckCardCloner deckCardCloner;
 
     @Getter
     private final @NotNull CloneDeckDto payload;
 
-    public CloneDeck(@NotNull DeckService deckService, @NotNull ConsumerRecord<String, String> event)
-            throws JsonProcessingException {
+    public CloneDeck(@NotNull DeckService deckService, @NotNull DeckCardCloner deckCardCloner,
+            @NotNull ConsumerRecord<String, byte[]> event) throws JsonProcessingException {
         super(event);
         this.deckService = deckService;
-        this.payload = CloneDeckDto.makeFromSerialization(event.value());
+        this.deckCardCloner = deckCardCloner;
+        this.payload = CloneDeckDto.makeFromSerialization(event.value(), contentType);
     }
 
     @Override
     public void execute() {
-        deckService.cloneDeck(
-                correlationId, payload.referencedDeckId(), payload.userId(),
+        Deck clonedDeck = deckService.cloneDeck(
+                correlationId, eventId, payload.referencedDeckId(), payload.userId(),
                 payload.getMappedDeckName());
+        deckCardCloner.cloneCards(payload.referencedDeckId(), clonedDeck.getDeckId());
     }
 
     @Override
     public @NotNull String getSerializedContent() {
-        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (Exception e) {
-            throw new RuntimeException("ObjectMapper conversion failed.");
-        }
+        return EventSerializer.serialize(payload);
     }
 
     @Override
@@ -2,102 +2,238 @@ package de.danielkoellgen.srscsdeckservice.commands.deckcards;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckCardCloner;
 import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.events.consumer.AbstractConsumerEvent;
+import de.danielkoellgen.srscsdeckservice.events.consumer.ConsumerMetrics;
+import de.danielkoellgen.srscsdeckservice.events.idempotency.EventDeduplicator;
+import de.danielkoellgen.srscsdeckservice.events.consumer.backpressure.MongoLatencyTracker;
+import de.danielkoellgen.srscsdeckservice.events.retry.FailedRecordRecoverer;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventEnvelope;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
 import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 
 @Component
 public class KafkaDeckCardsCommandConsumer {
 
     private final DeckService deckService;
     private final CardService cardService;
+    private final DeckCardCloner deckCardCloner;
+
+    private final KeyedCommandExecutor commandExecutor;
+    private final EventDeduplicator eventDeduplicator;
+    private final FailedRecordRecoverer failedRecordRecoverer;
+    private final ConsumerMetrics consumerMetrics;
+
+    private static final long RECOVERY_MIN_BACKOFF_MS = 100;
+    private static final long RECOVERY_MAX_BACKOFF_MS = 30_000;
 
     @Autowired
     private Tracer tracer;
 
+    @Autowired
+    private CurrentTraceContext currentTraceContext;
+
     private final Logger log = LoggerFactory.getLogger(KafkaDeckCardsCommandConsumer.class);
 
     @Autowired
-    public KafkaDeckCardsCommandConsumer(DeckService deckService, CardService cardService) {
+    public KafkaDeckCardsCommandConsumer(DeckService deckService, CardService cardService,
+            DeckCardCloner deckCardCloner, KeyedCommandExecutor commandExecutor, EventDeduplicator eventDeduplicator,
+            FailedRecordRecoverer failedRecordRecoverer, ConsumerMetrics consumerMetrics) {
         this.deckService = deckService;
         this.cardService = cardService;
+        this.deckCardCloner = deckCardCloner;
+        this.commandExecutor = commandExecutor;
+        this.eventDeduplicator = eventDeduplicator;
+        this.failedRecordRecoverer = failedRecordRecoverer;
+        this.consumerMetrics = consumerMetrics;
     }
 
-    @KafkaListener(topics = {"cmd.decks-cards.0"})
-    public void receive(@NotNull ConsumerRecord<String, String> command)
-            throws JsonProcessingException {
-        String eventName = getHeaderValue(command, "type");
-        switch (eventName) {
-            case "create-deck"      -> processCreateDeckCommand(command);
-            case "clone-deck"       -> processCloneDeckCommand(command);
-            case "override-card"    -> processOverrideCardCommand(command);
-            case "clone-card"       -> processCloneCardCommand(command);
-            default                 -> log.warn("Received an Command on 'cmd.decks-cards.0' of unknown type '{}'.", eventName);
+    @KafkaListener(topics = {"cmd.decks-cards.0"}, containerFactory = "commandListenerContainerFactory",
+            autoStartup = "#{!${kafka.consumer.commands.exactlyOnce:false}}")
+    public void dispatch(@NotNull ConsumerRecord<String, byte[]> command, @NotNull Acknowledgment acknowledgment) {
+        AbstractConsumerEvent parsedCommand;
+        try {
+            parsedCommand = parseCommand(command);
+        } catch (Exception e) {
+            try {
+                recoverUntilForwarded(command, e);
+            } finally {
+                acknowledgment.acknowledge();
+            }
+            return;
+        }
+        if (parsedCommand == null) {
+            acknowledgment.acknowledge();
+            return;
         }
+        // Wrapped so that the command's span on the worker continues the trace of the consumed record.
+        commandExecutor.submit(getOrderingKey(parsedCommand), currentTraceContext.wrap(() -> {
+            try {
+                processCommand(parsedCommand);
+            } catch (Exception e) {
+                recoverUntilForwarded(command, e);
+            } finally {
+                // Async acks commit offsets in order, a single unacknowledged command would hold back every
+                // later commit of its partition.
+                acknowledgment.acknowledge();
+            }
+        }));
     }
 
-    private void processCreateDeckCommand(@NotNull ConsumerRecord<String, String> command)
+    @KafkaListener(id = "deck-cards-command-transactional", groupId = "${kafka.groupId}",
+            topics = {"cmd.decks-cards.0"}, containerFactory = "transactionalCommandListenerContainerFactory",
+            autoStartup = "${kafka.consumer.commands.exactlyOnce:false}")
+    public void receiveTransactional(@NotNull ConsumerRecord<String, byte[]> command)
             throws JsonProcessingException {
-        Span newSpan = tracer.nextSpan().name("command-create-deck");
-        try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start())) {
-            CreateDeck createDeck = new CreateDeck(deckService, command);
-            log.info("Received 'CreateDeckCommand'... {}", createDeck);
-            createDeck.execute();
-            log.trace("Command processing completed.");
-        } finally {
-            newSpan.end();
+        // Failures must abort the transaction so that no event sent before them becomes visible. Failed commands
+        // are forwarded by the container's after-rollback processor. A redelivery here means the previous
+        // transaction aborted, re-executing is safe as commands derive their ids from the eventId.
+        AbstractConsumerEvent parsedCommand = parseCommand(command);
+        if (parsedCommand == null) {
+            return;
+        }
+        try (MongoLatencyTracker.ConsumerScope ignored = MongoLatencyTracker.openConsumerScope()) {
+            executeCommand(parsedCommand);
         }
     }
 
-    private void processCloneDeckCommand(@NotNull ConsumerRecord<String, String> command)
-            throws JsonProcessingException {
-        Span newSpan = tracer.nextSpan().name("command-clone-deck");
-        try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start())) {
-            CloneDeck cloneDeck = new CloneDeck(deckService, command);
-            log.info("Received 'CloneDeckCommand'... {}", cloneDeck);
-            cloneDeck.execute();
-            log.trace("Command processing completed.");
-        } finally {
-            newSpan.end();
+    @KafkaListener(id = "deck-cards-command-retry",
+            topics = "#{T(de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics).getRetryTopics('cmd.decks-cards.0')}",
+            concurrency = "#{T(de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics).BACKOFFS.size()}",
+            properties = "partition.assignment.strategy=org.apache.kafka.clients.consumer.RoundRobinAssignor",
+            autoStartup = "#{!${kafka.consumer.commands.exactlyOnce:false}}")
+    public void retry(@NotNull ConsumerRecord<String, byte[]> command) throws InterruptedException {
+        failedRecordRecoverer.awaitRetry(command);
+        AbstractConsumerEvent parsedCommand;
+        try {
+            parsedCommand = parseCommand(command);
+        } catch (Exception e) {
+            failedRecordRecoverer.recover(command, e);
+            return;
+        }
+        if (parsedCommand == null) {
+            return;
         }
+        // Retries run on the same worker as fresh commands of their key so that they are not reordered.
+        commandExecutor.submitAndWait(getOrderingKey(parsedCommand), currentTraceContext.wrap(() -> {
+            try {
+                processCommand(parsedCommand);
+            } catch (Exception e) {
+                failedRecordRecoverer.recover(command, e);
+            }
+        }));
     }
 
-    private void processOverrideCardCommand(@NotNull ConsumerRecord<String, String> command)
-            throws JsonProcessingException {
-        Span newSpan = tracer.nextSpan().name("command-override-card");
-        try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start())) {
-            OverrideCard overrideCard = new OverrideCard(cardService, command);
-            log.info("Received 'OverrideCardCommand'... {}", overrideCard);
-            overrideCard.execute();
-            log.trace("Command processing completed.");
-        } finally {
-            newSpan.end();
+    @KafkaListener(id = "deck-cards-command-retry-transactional", groupId = "deck-cards-command-retry",
+            topics = "#{T(de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics).getRetryTopics('cmd.decks-cards.0')}",
+            concurrency = "#{T(de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics).BACKOFFS.size()}",
+            properties = "partition.assignment.strategy=org.apache.kafka.clients.consumer.RoundRobinAssignor",
+            containerFactory = "transactionalCommandListenerContainerFactory",
+            autoStartup = "${kafka.consumer.commands.exactlyOnce:false}")
+    public void retryTransactional(@NotNull ConsumerRecord<String, byte[]> command)
+            throws InterruptedException, JsonProcessingException {
+        // Waiting happens before the first send, so it does not count against the producer's transaction timeout.
+        failedRecordRecoverer.awaitRetry(command);
+        receiveTransactional(command);
+    }
+
+    public void receive(@NotNull ConsumerRecord<String, byte[]> command) throws JsonProcessingException {
+        AbstractConsumerEvent parsedCommand = parseCommand(command);
+        if (parsedCommand != null) {
+            processCommand(parsedCommand);
         }
     }
 
-    private void processCloneCardCommand(@NotNull ConsumerRecord<String, String> command)
+    private @Nullable AbstractConsumerEvent parseCommand(@NotNull ConsumerRecord<String, byte[]> command)
             throws JsonProcessingException {
-        Span newSpan = tracer.nextSpan().name("command-clone-card");
+        String eventName = getHeaderValue(command, "type");
+        return switch (eventName) {
+            case "create-deck"      -> new CreateDeck(deckService, command);
+            case "clone-deck"       -> new CloneDeck(deckService, deckCardCloner, command);
+            case "override-card"    -> new OverrideCard(cardService, command);
+            case "clone-card"       -> new CloneCard(cardService, command);
+            default -> {
+                log.warn("Received an Command on 'cmd.decks-cards.0' of unknown type '{}'.", eventName);
+                yield null;
+            }
+        };
+    }
+
+    private void processCommand(@NotNull AbstractConsumerEvent command) {
+        try (MongoLatencyTracker.ConsumerScope ignored = MongoLatencyTracker.openConsumerScope()) {
+            if (eventDeduplicator.isProcessed(command.getEventId())) {
+                log.info("Skipping already processed '{}'-command '{}'.", command.getEventName(),
+                        command.getEventId());
+                return;
+            }
+            executeCommand(command);
+        }
+    }
+
+    private void executeCommand(@NotNull AbstractConsumerEvent command) {
+        Span newSpan = tracer.nextSpan().name("command-" + command.getEventName());
         try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start())) {
-            CloneCard cloneCard = new CloneCard(cardService, command);
-            log.info("Received 'CloneCardCommand'... {}", cloneCard);
-            cloneCard.execute();
+            log.info("Received '{}'-command... {}", command.getEventName(), command);
+            try {
+                command.execute();
+            } catch (RuntimeException e) {
+                consumerMetrics.recordCompletion(command, false);
+                throw e;
+            }
+            eventDeduplicator.markProcessed(command.getEventId(), command.getTopic());
+            consumerMetrics.recordCompletion(command, true);
             log.trace("Command processing completed.");
         } finally {
             newSpan.end();
         }
     }
 
-    public static String getHeaderValue(ConsumerRecord<String, String> event, String key) {
-        return new String(event.headers().lastHeader(key).value(), StandardCharsets.US_ASCII);
+    private void recoverUntilForwarded(@NotNull ConsumerRecord<String, byte[]> command, @NotNull Exception exception) {
+        long backoffMs = RECOVERY_MIN_BACKOFF_MS;
+        while (true) {
+            try {
+                failedRecordRecoverer.recover(command, exception);
+                return;
+            } catch (Exception recoveryFailure) {
+                log.error("Failed to forward record at offset {} on '{}'. Retrying in {} ms...",
+                        command.offset(), command.topic(), backoffMs, recoveryFailure);
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while forwarding record at offset {} on '{}'. Giving up.",
+                        command.offset(), command.topic());
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, RECOVERY_MAX_BACKOFF_MS);
+        }
+    }
+
+    private static @NotNull UUID getOrderingKey(@NotNull AbstractConsumerEvent command) {
+        return switch (command) {
+            case CreateDeck createDeck      -> createDeck.getPayload().userId();
+            case CloneDeck cloneDeck        -> cloneDeck.getPayload().referencedDeckId();
+            case OverrideCard overrideCard  -> overrideCard.getPayload().deckId();
+            case CloneCard cloneCard        -> cloneCard.getPayload().targetDeckId();
+            default                         -> command.getEventId();
+        };
+    }
+
+    public static String getHeaderValue(ConsumerRecord<String, byte[]> event, String key) {
+        return EventEnvelope.readString(event.headers(), key);
     }
 }
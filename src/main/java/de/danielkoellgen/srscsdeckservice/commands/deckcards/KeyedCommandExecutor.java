@@ -0,0 +1,109 @@
+package de.danielkoellgen.srscsdeckservice.commands.deckcards;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs commands on a fixed set of single-threaded workers. Commands sharing a key always land on the same
+ * worker and therefore run in submission order. Submitting blocks while the worker's queue is full. With virtual
+ * threads enabled, each worker runs on a virtual thread, so the worker count can be raised well beyond the number
+ * of cores for commands that mostly wait on Mongo.
+ */
+@Component
+public class KeyedCommandExecutor {
+
+    private final List<ThreadPoolExecutor> workers = new ArrayList<>();
+
+    private final Logger log = LoggerFactory.getLogger(KeyedCommandExecutor.class);
+
+    @Autowired
+    public KeyedCommandExecutor(MeterRegistry meterRegistry,
+            @Value("${kafka.consumer.commands.workers:0}") Integer workerCount,
+            @Value("${kafka.consumer.commands.queueCapacity:256}") Integer queueCapacity,
+            @Value("${threads.virtual.enabled:false}") Boolean virtualThreadsEnabled) {
+        int resolvedWorkerCount = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < resolvedWorkerCount; i++) {
+            ThreadPoolExecutor worker = makeWorker(i, queueCapacity, virtualThreadsEnabled);
+            workers.add(worker);
+            Gauge.builder("kafka.consumer.commands.queue.depth", worker, executor -> executor.getQueue().size())
+                    .description("Commands waiting for their worker.")
+                    .tag("worker", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        log.debug("Started {} command workers with a queue capacity of {}. Virtual threads: {}.",
+                resolvedWorkerCount, queueCapacity, virtualThreadsEnabled);
+    }
+
+    public void submit(@NotNull Object key, @NotNull Runnable command) {
+        workers.get(Math.floorMod(key.hashCode(), workers.size())).execute(command);
+    }
+
+    /**
+     * Submits the command like {@link #submit(Object, Runnable)} and blocks until it has run. Exceptions thrown by
+     * the command are rethrown to the caller.
+     */
+    public void submitAndWait(@NotNull Object key, @NotNull Runnable command) throws InterruptedException {
+        FutureTask<Void> task = new FutureTask<>(command, null);
+        submit(key, task);
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Command failed on its worker.", e.getCause());
+        }
+    }
+
+    public int getWorkerCount() {
+        return workers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor worker : workers) {
+            if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Command worker did not drain in time. Unacknowledged commands will be redelivered.");
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor makeWorker(int index, int queueCapacity, boolean virtualThreadsEnabled) {
+        ThreadFactory threadFactory = virtualThreadsEnabled
+                ? Thread.ofVirtual().name("command-worker-" + index + "-", 0).factory()
+                : Thread.ofPlatform().name("command-worker-" + index + "-", 0).factory();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Command worker is shut down.");
+                    }
+                    try {
+                        executor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for a command worker.", e);
+                    }
+                });
+    }
+}
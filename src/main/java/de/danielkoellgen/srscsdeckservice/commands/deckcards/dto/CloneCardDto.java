@@ -1,10 +1,11 @@
 package de.danielkoellgen.srscsdeckservice.commands.deckcards.dto;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 
 public record CloneCardDto(
 
@@ -13,9 +14,8 @@ public record CloneCardDto(
     @NotNull UUID targetDeckId
 
 ) {
-    public static @NotNull CloneCardDto makeFromSerialization(@NotNull String serialized)
-            throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        return mapper.readValue(serialized, CloneCardDto.class);
+    public static @NotNull CloneCardDto makeFromSerialization(@NotNull byte[] serialized,
+            @NotNull EventContentType contentType) throws JsonProcessingException {
+        return EventSerializer.deserialize(serialized, contentType, CloneCardDto.class);
     }
 }
@@ -2,8 +2,9 @@ package de.danielkoellgen.srscsdeckservice.commands.deckcards.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
@@ -17,10 +18,9 @@ public record CloneDeckDto(
     @NotNull String deckName
 
 ) {
-    public static @NotNull CloneDeckDto makeFromSerialization(@NotNull String serialized)
-            throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        return mapper.readValue(serialized, CloneDeckDto.class);
+    public static @NotNull CloneDeckDto makeFromSerialization(@NotNull byte[] serialized,
+            @NotNull EventContentType contentType) throws JsonProcessingException {
+        return EventSerializer.deserialize(serialized, contentType, CloneDeckDto.class);
     }
 
     @JsonIgnore
@@ -2,8 +2,9 @@ package de.danielkoellgen.srscsdeckservice.commands.deckcards.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
@@ -15,10 +16,9 @@ public record CreateDeckDto(
     @NotNull String deckName
 
 ) {
-    public static @NotNull CreateDeckDto makeFromSerialization(@NotNull String serialized)
-            throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        return mapper.readValue(serialized, CreateDeckDto.class);
+    public static @NotNull CreateDeckDto makeFromSerialization(@NotNull byte[] serialized,
+            @NotNull EventContentType contentType) throws JsonProcessingException {
+        return EventSerializer.deserialize(serialized, contentType, CreateDeckDto.class);
     }
 
     @JsonIgnore
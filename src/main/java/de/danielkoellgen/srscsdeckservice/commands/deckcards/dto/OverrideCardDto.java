@@ -1,10 +1,11 @@
 package de.danielkoellgen.srscsdeckservice.commands.deckcards.dto;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 
 public record OverrideCardDto(
 
@@ -15,9 +16,8 @@ public record OverrideCardDto(
     @NotNull UUID referencedCardId
 
 ) {
-    public static @NotNull OverrideCardDto makeFromSerialization(@NotNull String serialized)
-            throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        return mapper.readValue(serialized, OverrideCardDto.class);
+    public static @NotNull OverrideCardDto makeFromSerialization(@NotNull byte[] serialized,
+            @NotNull EventContentType contentType) throws JsonProcessingException {
+        return EventSerializer.deserialize(serialized, contentType, OverrideCardDto.class);
     }
 }
@@ -1,27 +1,45 @@
 package de.danielkoellgen.srscsdeckservice.controller.card;
 
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.BatchReviewItemDto;
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.BatchReviewRequestDto;
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.BatchReviewResponseDto;
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.BatchReviewResultDto;
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.CardLineageResponseDto;
 import de.danielkoellgen.srscsdeckservice.controller.card.dto.CardRequestDto;
 import de.danielkoellgen.srscsdeckservice.controller.card.dto.CardResponseDto;
 import de.danielkoellgen.srscsdeckservice.controller.card.dto.ReviewRequestDto;
 import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
+import de.danielkoellgen.srscsdeckservice.domain.card.application.ReviewActivity;
+import de.danielkoellgen.srscsdeckservice.domain.card.application.ReviewResult;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.ReviewAction;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardCursor;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardLineage;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardPage;
 import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.sleuth.annotation.NewSpan;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RestController
 public class CardController {
@@ -29,6 +47,15 @@ public class CardController {
     private final CardService cardService;
     private final CardRepository cardRepository;
 
+    private static final int MAX_BATCH_REVIEWS = 1000;
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int DEFAULT_DUE_CARDS_LIMIT = 20;
+    private static final int MAX_DUE_CARDS_LIMIT = 500;
+
     private final Logger log = LoggerFactory.getLogger(CardController.class);
 
     @Autowired
@@ -88,28 +115,138 @@ public class CardController {
         }
     }
 
+    @GetMapping(value = "/cards/{card-id}/lineage", produces = {"application/json"})
+    @NewSpan("controller-get-card-lineage")
+    public ResponseEntity<CardLineageResponseDto> getCardLineage(@PathVariable("card-id") UUID cardId) {
+        log.info("GET /cards/{}/lineage: Fetch Card-Lineage...", cardId);
+
+        try {
+            log.trace("Fetching Card-Lineage by id '{}'...", cardId);
+            CardLineage cardLineage = cardRepository.findLineageById(cardId).orElseThrow();
+            log.debug("Fetched Card-Lineage of {} Cards.", cardLineage.cards().size());
+            CardLineageResponseDto responseDto = CardLineageResponseDto.makeFromCardLineage(cardLineage);
+            log.info("Request successful. Responding w/ 200.");
+            log.debug("Response: {}", responseDto);
+            return new ResponseEntity<>(responseDto, HttpStatus.OK);
+
+        } catch (NoSuchElementException e) {
+            log.info("Request failed w/ 404. Card not found.");
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping(value = "/cards/{card-id}/latest", produces = {"application/json"})
+    @NewSpan("controller-get-latest-card")
+    public ResponseEntity<CardResponseDto> getLatestActiveCard(@PathVariable("card-id") UUID cardId) {
+        log.info("GET /cards/{}/latest: Resolve latest active Card...", cardId);
+
+        try {
+            log.trace("Fetching Card-Lineage by id '{}'...", cardId);
+            AbstractCard card = cardRepository.findLineageById(cardId).orElseThrow()
+                    .findLatestActiveDescendant().orElseThrow();
+            log.debug("Resolved latest active Card: {}", card);
+            CardResponseDto cardResponseDto = CardResponseDto.makeFromDefaultCard((DefaultCard) card);
+            log.info("Request successful. Responding w/ 200.");
+            log.debug("Response: {}", cardResponseDto);
+            return new ResponseEntity<>(cardResponseDto, HttpStatus.OK);
+
+        } catch (NoSuchElementException e) {
+            log.info("Request failed w/ 404. Card not found or no active Card in its lineage.");
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     @GetMapping(value = "/cards", produces = {"application/json"})
     @NewSpan("controller-get-all-cards")
-    public List<CardResponseDto> getAllCards(@RequestParam("deck-id") UUID deckId,
+    public ResponseEntity<List<CardResponseDto>> getAllCards(@RequestParam("deck-id") UUID deckId,
+            @RequestParam("card-status") Optional<String> cardStatusParam,
+            @RequestParam("page-size") Optional<Integer> pageSizeParam,
+            @RequestParam("cursor") Optional<String> cursorParam) {
+        log.info("GET /cards?deck-id={}&card-status={}&page-size={}&cursor={}: Fetch Cards...",
+                deckId, cardStatusParam, pageSizeParam, cursorParam);
+
+        Boolean cardStatus = cardStatusParam.map(status -> status.equals("active")).orElse(null);
+        if (pageSizeParam.isEmpty() && cursorParam.isEmpty()) {
+            log.trace("Fetch all Cards by deckId '{}' and cardStatus '{}'...", deckId, cardStatus);
+            List<CardResponseDto> responseDtos;
+            try (Stream<AbstractCard> cards = cardRepository.streamAllByDeckId(deckId, cardStatus)) {
+                responseDtos = cards.map(card -> CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                        .toList();
+            }
+            log.info("Request successful. Responding w/ 200.");
+            log.debug("{} Cards fetched: {}", responseDtos.size(), responseDtos);
+            return new ResponseEntity<>(responseDtos, HttpStatus.OK);
+        }
+        int pageSize = pageSizeParam.orElse(DEFAULT_PAGE_SIZE);
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            log.info("Request failed w/ 400. Page-size '{}' out of range.", pageSize);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Page-size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        CardCursor cursor;
+        try {
+            cursor = cursorParam.map(CardCursor::makeFromEncoded).orElse(null);
+        } catch (Exception e) {
+            log.info("Request failed w/ 400. Cursor invalid. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor invalid.", e);
+        }
+
+        log.trace("Fetch {} Cards by deckId '{}' and cardStatus '{}' after '{}'...",
+                pageSize, deckId, cardStatus, cursor);
+        CardPage page = cardRepository.findPageByDeckId(deckId, cardStatus, cursor, pageSize);
+        List<CardResponseDto> responseDtos = page.cards().stream().map(card ->
+                CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                .toList();
+        HttpHeaders headers = new HttpHeaders();
+        if (page.nextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, page.nextCursor().getEncoded());
+        }
+        log.info("Request successful. Responding w/ 200.");
+        log.debug("{} Cards fetched: {}", responseDtos.size(), responseDtos);
+        return new ResponseEntity<>(responseDtos, headers, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/cards/stream", produces = {"application/x-ndjson"})
+    @NewSpan("controller-stream-all-cards")
+    public Flux<CardResponseDto> streamAllCards(@RequestParam("deck-id") UUID deckId,
             @RequestParam("card-status") Optional<String> cardStatusParam) {
-        log.info("GET /cards?deck-id={}&card-status={}: Fetch Cards...", deckId, cardStatusParam);
-
-        List<AbstractCard> cards;
-        if (cardStatusParam.isEmpty()) {
-            log.trace("Fetch Cards by deckId '{}'...", deckId);
-            cards = cardRepository.findAllByEmbeddedDeck_DeckId(deckId);
-            log.debug("Fetched Cards: {}", cards);
-        } else {
-            Boolean cardStatus = cardStatusParam.get().equals("active");
-            log.trace("Fetch Cards by deckId '{}' and cardStatus '{}'...", deckId, cardStatus);
-            cards = cardRepository.findAllByEmbeddedDeck_DeckIdAndIsActive(deckId, cardStatus);
-            log.debug("Fetched Cards: {}", cards);
+        log.info("GET /cards/stream?deck-id={}&card-status={}: Stream Cards...", deckId, cardStatusParam);
+
+        Boolean cardStatus = cardStatusParam.map(status -> status.equals("active")).orElse(null);
+        log.trace("Stream Cards by deckId '{}' and cardStatus '{}'...", deckId, cardStatus);
+        return Flux.fromStream(() -> cardRepository.streamAllByDeckId(deckId, cardStatus))
+                .map(card -> CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping(value = "/decks/{deck-id}/due-cards", produces = {"application/json"})
+    @NewSpan("controller-get-due-cards")
+    public List<CardResponseDto> getDueCards(@PathVariable("deck-id") UUID deckId,
+            @RequestParam("limit") Optional<Integer> limitParam, @RequestParam("now") Optional<String> nowParam) {
+        log.info("GET /decks/{}/due-cards?limit={}&now={}: Fetch due Cards...", deckId, limitParam, nowParam);
+
+        int limit = limitParam.orElse(DEFAULT_DUE_CARDS_LIMIT);
+        if (limit < 1 || limit > MAX_DUE_CARDS_LIMIT) {
+            log.info("Request failed w/ 400. Limit '{}' out of range.", limit);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + MAX_DUE_CARDS_LIMIT + ".");
+        }
+        LocalDateTime dueAt;
+        try {
+            dueAt = nowParam.map(now -> EventDateTime.makeFromFormattedString(now).getDateTime())
+                    .orElseGet(LocalDateTime::now);
+        } catch (Exception e) {
+            log.info("Request failed w/ 400. Timestamp invalid. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Timestamp invalid.", e);
         }
+
+        log.trace("Fetch {} Cards of Deck '{}' due at '{}'...", limit, deckId, dueAt);
+        List<AbstractCard> cards = cardRepository.findDueCardsByDeckId(deckId, dueAt, limit);
         List<CardResponseDto> responseDtos = cards.stream().map(card ->
                 CardResponseDto.makeFromDefaultCard((DefaultCard) card))
                 .toList();
         log.info("Request successful. Responding w/ 200.");
-        log.debug("{} Cards fetched: {}", cards.size(), responseDtos);
+        log.debug("{} due Cards fetched: {}", cards.size(), responseDtos);
         return responseDtos;
     }
 
@@ -141,6 +278,10 @@ public class CardController {
         } catch (NoSuchElementException e) {
             log.info("Request failed with 404. Entity not found.");
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Request failed with 409. Card modified concurrently. {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
         }
     }
 
@@ -157,6 +298,10 @@ public class CardController {
         } catch (NoSuchElementException e) {
             log.info("Request failed w/ 404. Card not found. {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Card not found.", e);
+
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Request failed w/ 409. Card modified concurrently. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Card modified concurrently.", e);
         }
     }
 
@@ -173,6 +318,10 @@ public class CardController {
         } catch (NoSuchElementException e) {
             log.info("Request failed with 404. Card not found. {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Card not found.", e);
+
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Request failed with 409. Card-Scheduler modified concurrently. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Card-Scheduler modified concurrently.", e);
         }
     }
 
@@ -189,6 +338,10 @@ public class CardController {
         } catch (NoSuchElementException e) {
             log.info("Request failed with 404. Card not found. {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Card not found.", e);
+
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Request failed with 409. Card-Scheduler modified concurrently. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Card-Scheduler modified concurrently.", e);
         }
     }
 
@@ -215,6 +368,46 @@ public class CardController {
         } catch (NoSuchElementException e) {
             log.info("Request failed w/ 404. Card not found. {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Card not found.", e);
+
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Request failed w/ 409. Card-Scheduler modified concurrently. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Card-Scheduler modified concurrently.", e);
+        }
+    }
+
+    @PostMapping(value = "/cards/scheduler/activity/reviews:batch", consumes = {"application/json"},
+            produces = {"application/json"})
+    @NewSpan("controller-review-card-schedulers-batch")
+    public ResponseEntity<BatchReviewResponseDto> reviewCardSchedulers(@RequestBody BatchReviewRequestDto requestDto) {
+        log.info("POST /cards/scheduler/activity/reviews:batch: Review Cards in batch... {} reviews",
+                requestDto.reviews().size());
+
+        if (requestDto.reviews().size() > MAX_BATCH_REVIEWS) {
+            log.info("Request failed w/ 400. Batch exceeds {} reviews.", MAX_BATCH_REVIEWS);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Batch exceeds " + MAX_BATCH_REVIEWS + " reviews.");
+        }
+
+        BatchReviewResultDto[] results = new BatchReviewResultDto[requestDto.reviews().size()];
+        List<Integer> validPositions = new ArrayList<>();
+        List<ReviewActivity> reviewActivities = new ArrayList<>();
+        for (int i = 0; i < requestDto.reviews().size(); i++) {
+            BatchReviewItemDto item = requestDto.reviews().get(i);
+            try {
+                reviewActivities.add(item.mapToReviewActivity());
+                validPositions.add(i);
+            } catch (Exception e) {
+                log.debug("Review of Card '{}' is invalid. {}", item.cardId(), e.getMessage());
+                results[i] = BatchReviewResultDto.makeInvalid(item.cardId());
+            }
         }
+        log.debug("{} of {} reviews are valid.", reviewActivities.size(), results.length);
+
+        List<ReviewResult> reviewResults = cardService.reviewCards(reviewActivities);
+        for (int i = 0; i < reviewResults.size(); i++) {
+            results[validPositions.get(i)] = BatchReviewResultDto.makeFromReviewResult(reviewResults.get(i));
+        }
+        log.info("Request successful. Responding w/ 200.");
+        return new ResponseEntity<>(new BatchReviewResponseDto(List.of(results)), HttpStatus.OK);
     }
 }
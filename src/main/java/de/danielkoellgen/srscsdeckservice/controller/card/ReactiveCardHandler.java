@@ -0,0 +1,145 @@
+package de.danielkoellgen.srscsdeckservice.controller.card;
+
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.CardResponseDto;
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.ReviewRequestDto;
+import de.danielkoellgen.srscsdeckservice.domain.card.application.ReactiveCardService;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardCursor;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.ReactiveCardRepository;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+@Component
+@Profile("reactive")
+public class ReactiveCardHandler {
+
+    private final ReactiveCardService cardService;
+    private final ReactiveCardRepository cardRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final Logger log = LoggerFactory.getLogger(ReactiveCardHandler.class);
+
+    @Autowired
+    public ReactiveCardHandler(ReactiveCardService cardService, ReactiveCardRepository cardRepository) {
+        this.cardService = cardService;
+        this.cardRepository = cardRepository;
+    }
+
+    public @NotNull Mono<ServerResponse> getCardById(@NotNull ServerRequest request) {
+        UUID cardId = parseUuid(request.pathVariable("card-id"), "Card-id");
+        log.info("GET /cards/{}: Fetch Card by id...", cardId);
+
+        return cardRepository.findById(cardId)
+                .map(card -> CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                .flatMap(responseDto -> {
+                    log.info("Request successful. Responding w/ 200.");
+                    log.debug("Response: {}", responseDto);
+                    return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(responseDto);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("Request failed w/ 404. Card not found.");
+                    return ServerResponse.notFound().build();
+                }));
+    }
+
+    public @NotNull Mono<ServerResponse> getAllCards(@NotNull ServerRequest request) {
+        UUID deckId = parseUuid(request.queryParam("deck-id").orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.BAD_REQUEST, "Deck-id missing.")), "Deck-id");
+        log.info("GET /cards?deck-id={}&card-status={}&page-size={}&cursor={}: Fetch Cards...", deckId,
+                request.queryParam("card-status"), request.queryParam("page-size"), request.queryParam("cursor"));
+
+        Boolean cardStatus = request.queryParam("card-status").map(status -> status.equals("active")).orElse(null);
+        if (request.queryParam("page-size").isEmpty() && request.queryParam("cursor").isEmpty()) {
+            return cardRepository.findAllByDeckId(deckId, cardStatus)
+                    .map(card -> CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                    .collectList()
+                    .flatMap(responseDtos -> {
+                        log.info("Request successful. Responding w/ 200.");
+                        log.debug("{} Cards fetched.", responseDtos.size());
+                        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(responseDtos);
+                    });
+        }
+        int pageSize;
+        CardCursor cursor;
+        try {
+            pageSize = request.queryParam("page-size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+            cursor = request.queryParam("cursor").map(CardCursor::makeFromEncoded).orElse(null);
+        } catch (Exception e) {
+            log.info("Request failed w/ 400. Page-size or cursor invalid. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page-size or cursor invalid.", e);
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            log.info("Request failed w/ 400. Page-size '{}' out of range.", pageSize);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Page-size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        return cardRepository.findPageByDeckId(deckId, cardStatus, cursor, pageSize)
+                .flatMap(page -> {
+                    ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+                    if (page.nextCursor() != null) {
+                        response.header(NEXT_CURSOR_HEADER, page.nextCursor().getEncoded());
+                    }
+                    log.info("Request successful. Responding w/ 200.");
+                    log.debug("{} Cards fetched.", page.cards().size());
+                    return response.bodyValue(page.cards().stream()
+                            .map(card -> CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                            .toList());
+                });
+    }
+
+    public @NotNull Mono<ServerResponse> reviewCardScheduler(@NotNull ServerRequest request) {
+        UUID cardId = parseUuid(request.pathVariable("card-id"), "Card-id");
+
+        return request.bodyToMono(ReviewRequestDto.class)
+                .map(requestDto -> {
+                    log.info("POST /cards/{}/scheduler/activity/review: Review Card... {}", cardId, requestDto);
+                    try {
+                        return requestDto.getMappedReviewAction();
+                    } catch (Exception e) {
+                        log.info("Request failed w/ 400. ReviewAction invalid. {}", e.getMessage());
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Review-Action invalid.", e);
+                    }
+                })
+                .flatMap(reviewAction -> cardService.reviewCard(cardId, reviewAction))
+                .then(Mono.defer(() -> {
+                    log.info("Request successful. Responding w/ 201.");
+                    return ServerResponse.status(HttpStatus.CREATED).build();
+                }))
+                .onErrorMap(NoSuchElementException.class, e -> {
+                    log.info("Request failed w/ 404. Card not found. {}", e.getMessage());
+                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "Card not found.", e);
+                })
+                .onErrorMap(OptimisticLockingFailureException.class, e -> {
+                    log.info("Request failed w/ 409. Card-Scheduler modified concurrently. {}", e.getMessage());
+                    return new ResponseStatusException(HttpStatus.CONFLICT, "Card-Scheduler modified concurrently.",
+                            e);
+                });
+    }
+
+    private @NotNull UUID parseUuid(@NotNull String value, @NotNull String name) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            log.info("Request failed w/ 400. {} '{}' invalid.", name, value);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " invalid.", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package de.danielkoellgen.srscsdeckservice.controller.card;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Non-blocking routes for card reads and reviews, active with the 'reactive' profile. The annotated controllers keep
+ * serving every other route, but block the event loop while doing so, so the profile only suits deployments whose
+ * traffic is dominated by these three routes.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveCardRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveCardRoutes(ReactiveCardHandler cardHandler) {
+        return route(GET("/cards/{card-id:[0-9a-fA-F-]{36}}"), cardHandler::getCardById)
+                .andRoute(GET("/cards"), cardHandler::getAllCards)
+                .andRoute(POST("/cards/{card-id}/scheduler/activity/review"), cardHandler::reviewCardScheduler);
+    }
+}
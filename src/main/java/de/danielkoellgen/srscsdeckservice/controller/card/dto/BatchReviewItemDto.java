@@ -0,0 +1,30 @@
+package de.danielkoellgen.srscsdeckservice.controller.card.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import de.danielkoellgen.srscsdeckservice.domain.card.application.ReviewActivity;
+import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+public record BatchReviewItemDto(
+
+    @NotNull
+    UUID cardId,
+
+    @NotNull
+    String reviewAction,
+
+    @NotNull
+    String reviewedAt
+
+) {
+    @JsonIgnore
+    public @NotNull ReviewActivity mapToReviewActivity() {
+        return new ReviewActivity(
+                cardId,
+                new ReviewRequestDto(reviewAction).getMappedReviewAction(),
+                EventDateTime.makeFromFormattedString(reviewedAt).getDateTime()
+        );
+    }
+}
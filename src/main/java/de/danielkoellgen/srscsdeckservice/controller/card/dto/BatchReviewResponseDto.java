@@ -0,0 +1,13 @@
+package de.danielkoellgen.srscsdeckservice.controller.card.dto;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public record BatchReviewResponseDto(
+
+    @NotNull
+    List<BatchReviewResultDto> results
+
+) {
+}
@@ -0,0 +1,29 @@
+package de.danielkoellgen.srscsdeckservice.controller.card.dto;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.application.ReviewResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+public record BatchReviewResultDto(
+
+    @Nullable
+    UUID cardId,
+
+    @NotNull
+    String status
+
+) {
+    public static @NotNull BatchReviewResultDto makeFromReviewResult(@NotNull ReviewResult reviewResult) {
+        return new BatchReviewResultDto(reviewResult.cardId(), switch (reviewResult.reviewStatus()) {
+            case REVIEWED -> "reviewed";
+            case NOT_FOUND -> "not-found";
+            case CONFLICT -> "conflict";
+        });
+    }
+
+    public static @NotNull BatchReviewResultDto makeInvalid(@Nullable UUID cardId) {
+        return new BatchReviewResultDto(cardId, "invalid");
+    }
+}
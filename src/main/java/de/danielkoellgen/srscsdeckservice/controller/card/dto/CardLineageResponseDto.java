@@ -0,0 +1,33 @@
+package de.danielkoellgen.srscsdeckservice.controller.card.dto;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardLineage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CardLineageResponseDto(
+
+    @NotNull
+    UUID cardId,
+
+    @NotNull
+    List<CardResponseDto> lineage,
+
+    @Nullable
+    UUID latestActiveCardId
+
+) {
+    public static @NotNull CardLineageResponseDto makeFromCardLineage(@NotNull CardLineage cardLineage) {
+        return new CardLineageResponseDto(
+                cardLineage.cardId(),
+                cardLineage.cards().stream()
+                        .map(card -> CardResponseDto.makeFromDefaultCard((DefaultCard) card))
+                        .toList(),
+                cardLineage.findLatestActiveDescendant().map(AbstractCard::getCardId).orElse(null)
+        );
+    }
+}
@@ -41,8 +41,8 @@ public record SchedulerDto(
 
 ) {
     public SchedulerDto(@NotNull Scheduler scheduler) {
-        this(scheduler.getEmbeddedSchedulerPreset().getPresetId(),
-                scheduler.getEmbeddedSchedulerPreset().getPresetName().getName(),
+        this(scheduler.getPresetReference().getPresetId(),
+                scheduler.getSchedulerPreset().getPresetName().getName(),
                 ReviewState.mapToString(scheduler.getReviewState()),
                 scheduler.getReviewCount().reviewCount,
                 scheduler.getLastReview().getFormatted(),
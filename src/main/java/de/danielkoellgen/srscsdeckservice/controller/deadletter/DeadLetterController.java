@@ -0,0 +1,71 @@
+package de.danielkoellgen.srscsdeckservice.controller.deadletter;
+
+import de.danielkoellgen.srscsdeckservice.controller.deadletter.dto.DeadLetterResponseDto;
+import de.danielkoellgen.srscsdeckservice.events.deadletter.DeadLetterService;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.sleuth.annotation.NewSpan;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@RestController
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    private final Logger log = LoggerFactory.getLogger(DeadLetterController.class);
+
+    @Autowired
+    public DeadLetterController(DeadLetterService deadLetterService) {
+        this.deadLetterService = deadLetterService;
+    }
+
+    @GetMapping(value = "/dead-letters", produces = {"application/json"})
+    @NewSpan("controller-get-dead-letters")
+    public List<DeadLetterResponseDto> getDeadLetters(
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit) {
+        log.info("GET /dead-letters?limit={}: Fetch dead letters...", limit);
+
+        if (limit < 1 || limit > 1000) {
+            log.info("Request failed w/ 400. Limit out of range.");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and 1000.");
+        }
+        List<DeadLetterResponseDto> responseDtos = deadLetterService.findDeadLetters(limit).stream()
+                .map(DeadLetterResponseDto::new)
+                .toList();
+        log.info("Request successful. Responding w/ 200.");
+        log.debug("{} dead letters fetched. {}", responseDtos.size(), responseDtos);
+        return responseDtos;
+    }
+
+    @PostMapping(value = "/dead-letters/{dead-letter-id}/replay")
+    @NewSpan("controller-replay-dead-letter")
+    public ResponseEntity<?> replayDeadLetter(@PathVariable("dead-letter-id") String deadLetterId) {
+        log.info("POST /dead-letters/{}/replay: Replay dead letter...", deadLetterId);
+
+        if (!ObjectId.isValid(deadLetterId)) {
+            log.info("Request failed w/ 404. Invalid dead-letter-id.");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Dead letter not found.");
+        }
+        try {
+            deadLetterService.replayDeadLetter(new ObjectId(deadLetterId));
+            log.info("Request successful. Responding w/ 202.");
+            return new ResponseEntity<>(HttpStatus.ACCEPTED);
+
+        } catch (NoSuchElementException e) {
+            log.info("Request failed w/ 404. Dead letter not found.");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Dead letter not found.", e);
+
+        } catch (UnsupportedOperationException e) {
+            log.info("Request failed w/ 409. {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+}
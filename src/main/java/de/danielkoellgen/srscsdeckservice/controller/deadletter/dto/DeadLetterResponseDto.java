@@ -0,0 +1,41 @@
+package de.danielkoellgen.srscsdeckservice.controller.deadletter.dto;
+
+import de.danielkoellgen.srscsdeckservice.events.deadletter.DeadLetter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public record DeadLetterResponseDto(
+
+    @NotNull
+    String deadLetterId,
+
+    @NotNull
+    String originalTopic,
+
+    @Nullable
+    String type,
+
+    @Nullable
+    String exceptionClass,
+
+    @Nullable
+    String exceptionMessage,
+
+    @NotNull
+    LocalDateTime failedAt
+
+) {
+    public DeadLetterResponseDto(@NotNull DeadLetter deadLetter) {
+        this(Objects.requireNonNull(deadLetter.getId()).toHexString(),
+                deadLetter.getOriginalTopic(),
+                (deadLetter.getHeaders().containsKey("type")
+                        ? new String(deadLetter.getHeaders().get("type"), StandardCharsets.US_ASCII) : null),
+                deadLetter.getExceptionClass(),
+                deadLetter.getExceptionMessage(),
+                deadLetter.getFailedAt());
+    }
+}
@@ -2,6 +2,8 @@ package de.danielkoellgen.srscsdeckservice.controller.deck;
 
 import de.danielkoellgen.srscsdeckservice.controller.deck.dto.DeckRequestDto;
 import de.danielkoellgen.srscsdeckservice.controller.deck.dto.DeckResponseDto;
+import de.danielkoellgen.srscsdeckservice.controller.deck.dto.PresetChangeResponseDto;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.BulkUpdateResult;
 import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
@@ -117,9 +119,9 @@ public class DeckController {
         log.info("PUT /decks/{}/scheduler-presets/{}: Change Preset...", deckId, presetId);
 
         try {
-            deckService.changePreset(deckId, presetId);
+            BulkUpdateResult result = deckService.changePreset(deckId, presetId);
             log.info("Request successful. Responding w/ 200.");
-            return new ResponseEntity<>(HttpStatus.OK);
+            return new ResponseEntity<>(new PresetChangeResponseDto(result), HttpStatus.OK);
 
         } catch (NoSuchElementException e) {
             log.info("Request failed w/ 404. Entity not found.");
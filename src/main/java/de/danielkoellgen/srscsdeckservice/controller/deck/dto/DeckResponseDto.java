@@ -28,7 +28,8 @@ public record DeckResponseDto(
         this(deck.getDeckId(),
                 deck.getDeckName().getName(),
                 deck.getUserId(),
-                (deck.getSchedulerPreset() != null ? deck.getSchedulerPreset().getPresetId() : null),
+                (deck.getSchedulerPresetReference() != null
+                        ? deck.getSchedulerPresetReference().getPresetId() : null),
                 deck.getIsActive());
     }
 }
@@ -0,0 +1,16 @@
+package de.danielkoellgen.srscsdeckservice.controller.deck.dto;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.BulkUpdateResult;
+import org.jetbrains.annotations.NotNull;
+
+public record PresetChangeResponseDto(
+
+    long matchedCards,
+
+    long modifiedCards
+
+) {
+    public PresetChangeResponseDto(@NotNull BulkUpdateResult result) {
+        this(result.matchedCount(), result.modifiedCount());
+    }
+}
@@ -0,0 +1,140 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.application;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves inactive Cards that have been disabled for longer than the configured age into the '*_archive'
+ * collections, so the hot collections and their indexes only hold the working set. Batches are throttled to keep
+ * the archival from competing with regular traffic. Runs on its own thread, as pausing between batches would
+ * otherwise hold up the outbox relay and every other scheduled task.
+ */
+@Component
+@ConditionalOnProperty(name = "cards.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class CardArchiver {
+
+    private final CardRepository cardRepository;
+    private final MongoTemplate mongoTemplate;
+
+    private final Duration minAge;
+    private final Integer batchSize;
+    private final Integer maxBatchesPerRun;
+    private final Long pauseMs;
+    private final Long intervalMs;
+
+    private final Counter archivedCards;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("card-archiver").daemon().factory());
+
+    private final Logger log = LoggerFactory.getLogger(CardArchiver.class);
+
+    @Autowired
+    public CardArchiver(CardRepository cardRepository, MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            @Value("${cards.archive.minAgeDays:30}") Integer minAgeDays,
+            @Value("${cards.archive.batchSize:500}") Integer batchSize,
+            @Value("${cards.archive.maxBatchesPerRun:20}") Integer maxBatchesPerRun,
+            @Value("${cards.archive.pauseMs:200}") Long pauseMs,
+            @Value("${cards.archive.intervalMs:60000}") Long intervalMs) {
+        this.cardRepository = cardRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.minAge = Duration.ofDays(minAgeDays);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseMs = pauseMs;
+        this.intervalMs = intervalMs;
+        this.archivedCards = Counter.builder("cards.archive.archived").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureArchiveIndexes() {
+        for (CardType cardType : CardType.values()) {
+            String collection = CardSource.getArchiveCollectionName(cardType);
+            IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+            indexOperations.ensureIndex(new CompoundIndexDefinition(new Document("deck.deck_id", 1).append("_id", 1))
+                    .named("deck_id"));
+            indexOperations.ensureIndex(new Index().on("parent_card_id", Sort.Direction.ASC)
+                    .named("parent_card_id"));
+            log.debug("Indexes ensured on '{}'.", collection);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleArchival() {
+        executor.scheduleWithFixedDelay(this::archiveLoggingFailures, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void archive() {
+        LocalDateTime disabledBefore = LocalDateTime.now().minus(minAge);
+        log.trace("Archiving Cards disabled before '{}'...", disabledBefore);
+        int batches = 0;
+        int archived = 0;
+        for (CardType cardType : CardType.values()) {
+            int moved;
+            do {
+                if (batches >= maxBatchesPerRun) {
+                    log.info("{} Cards archived. Batch limit reached, continuing with the next run.", archived);
+                    return;
+                }
+                moved = cardRepository.archiveInactiveCards(cardType, disabledBefore, batchSize);
+                archivedCards.increment(moved);
+                archived += moved;
+                batches++;
+                if (moved == batchSize && !pause()) {
+                    return;
+                }
+            } while (moved == batchSize);
+        }
+        if (archived > 0) {
+            log.info("{} Cards archived.", archived);
+        }
+    }
+
+    private void archiveLoggingFailures() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            // A failure must not cancel the schedule, the next run picks up where this one failed.
+            log.error("Archiving Cards failed.", e);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
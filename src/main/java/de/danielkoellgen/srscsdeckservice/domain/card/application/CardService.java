@@ -1,18 +1,26 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.application;
 
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.*;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardPage;
 import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.VersionedScheduler;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckCloneCheckpoint;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckDisableCheckpoint;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckCloneCheckpointRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckDisableCheckpointRepository;
 import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
-import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetService;
-import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
-import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetRegistry;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.events.outbox.EventOutbox;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.CardCreated;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.CardDisabled;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.CardOverridden;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.CardsDisabled;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardCreatedDto;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardDisabledDto;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardOverriddenDto;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardsDisabledDto;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -20,17 +28,25 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class CardService {
 
     private final CardRepository cardRepository;
     private final DeckRepository deckRepository;
-    private final SchedulerPresetService schedulerPresetService;
-    private final KafkaProducer kafkaProducer;
+    private final SchedulerPresetRegistry schedulerPresetRegistry;
+    private final EventOutbox eventOutbox;
+    private final DeckCloneCheckpointRepository deckCloneCheckpointRepository;
+    private final DeckDisableCheckpointRepository deckDisableCheckpointRepository;
 
     @Autowired
     private Tracer tracer;
@@ -39,35 +55,52 @@ public class CardService {
 
     @Autowired
     public CardService(CardRepository cardRepository, DeckRepository deckRepository,
-            SchedulerPresetService schedulerPresetService, KafkaProducer kafkaProducer) {
+            SchedulerPresetRegistry schedulerPresetRegistry, EventOutbox eventOutbox,
+            DeckCloneCheckpointRepository deckCloneCheckpointRepository,
+            DeckDisableCheckpointRepository deckDisableCheckpointRepository) {
         this.cardRepository = cardRepository;
         this.deckRepository = deckRepository;
-        this.schedulerPresetService = schedulerPresetService;
-        this.kafkaProducer = kafkaProducer;
+        this.schedulerPresetRegistry = schedulerPresetRegistry;
+        this.eventOutbox = eventOutbox;
+        this.deckCloneCheckpointRepository = deckCloneCheckpointRepository;
+        this.deckDisableCheckpointRepository = deckDisableCheckpointRepository;
     }
 
-    public void cloneCard(@Nullable UUID correlationId, @NotNull UUID referenceCardId,
+    @Transactional
+    public void cloneCard(@Nullable UUID correlationId, @NotNull UUID commandId, @NotNull UUID referenceCardId,
             @NotNull UUID targetDeckId) {
         log.trace("Cloning Reference-Card '{}' to Deck '{}'...", referenceCardId, targetDeckId);
 
         log.trace("Fetching Deck by id '{}'...", targetDeckId);
         Deck targetDeck = deckRepository.findById(targetDeckId).orElseThrow();
         log.debug("Fetched Deck: {}", targetDeck);
+
+        UUID clonedCardId = makeCommandScopedId("clone-card", commandId);
+        if (cardRepository.existsById(clonedCardId)) {
+            log.info("Reference-Card '{}' has already been cloned as '{}'. Republishing its event...",
+                    referenceCardId, clonedCardId);
+            eventOutbox.enqueue(new CardCreated(
+                    getTraceIdOrEmptyString(), correlationId, new CardCreatedDto(clonedCardId,
+                    targetDeckId, targetDeck.getUserId())));
+            return;
+        }
         log.trace("Fetching Reference-Card by id '{}'...", referenceCardId);
         AbstractCard referenceCard = cardRepository.findById(referenceCardId).orElseThrow();
         log.trace("Reference-Card fetched.");
 
-        SchedulerPreset preset = getPresetOrMakeDefault(targetDeck);
+        CompiledSchedulerPreset preset = getPresetOrMakeDefault(targetDeck);
         AbstractCard clonedCard;
         log.trace("Clone Card...");
         switch (referenceCard.getClass().getSimpleName()) {
             case "DefaultCard" -> {
-                DefaultCard newCard = DefaultCard.makeNewAsCloned(((DefaultCard) referenceCard), targetDeck, preset);
+                DefaultCard newCard = DefaultCard.makeNewAsCloned(
+                        clonedCardId, ((DefaultCard) referenceCard), targetDeck, preset);
                 clonedCard = newCard;
                 log.debug("Cloned as 'DefaultCard': {}", newCard);
             }
             case "TypingCard" -> {
-                TypingCard newCard = TypingCard.makeNewAsCloned(((TypingCard) referenceCard), targetDeck, preset);
+                TypingCard newCard = TypingCard.makeNewAsCloned(
+                        clonedCardId, ((TypingCard) referenceCard), targetDeck, preset);
                 clonedCard = newCard;
                 log.debug("Cloned as 'TypingCard': {}", newCard);
             }
@@ -80,46 +113,60 @@ public class CardService {
         cardRepository.save(clonedCard);
         log.info("Reference-Card cloned into Deck '{}'.", targetDeck.getDeckName().getName());
 
-        kafkaProducer.send(new CardCreated(
+        eventOutbox.enqueue(new CardCreated(
                 getTraceIdOrEmptyString(), correlationId, new CardCreatedDto(clonedCard.getCardId(),
                 targetDeckId, targetDeck.getUserId())));
     }
 
-    public void cloneCardsToDeck(@NotNull UUID referencedDeckId, @NotNull UUID targetDeckId) {
-        log.trace("Cloning Cards from Deck '{}' to Deck '{}'...", referencedDeckId, targetDeckId);
-
+    /**
+     * Clones the next chunk of a Reference-Deck's active Cards. The cloned Cards, their CardCreated-events and the
+     * advanced checkpoint are committed in one transaction, so a resumed clone neither loses nor repeats events.
+     */
+    @Transactional
+    public @NotNull DeckCloneCheckpoint cloneNextCardChunk(@NotNull DeckCloneCheckpoint checkpoint, int chunkSize) {
+        UUID referencedDeckId = checkpoint.getReferenceDeckId();
+        UUID targetDeckId = checkpoint.getTargetDeckId();
         log.trace("Fetching Target-Deck by id '{}'...", targetDeckId);
         Deck targetDeck = deckRepository.findById(targetDeckId).orElseThrow();
         log.debug("Fetched Target-Deck: {}", targetDeck);
-        SchedulerPreset preset = getPresetOrMakeDefault(targetDeck);
-        log.trace("Fetching all active Cards from Reference-Deck '{}'...", referencedDeckId);
-        List<AbstractCard> referencedCards = cardRepository
-                .findAllByEmbeddedDeck_DeckIdAndIsActive(referencedDeckId, true);
-        log.debug("{} Reference-Cards fetched.", referencedCards.size());
-
-        log.trace("Cloning Cards...");
-        List<AbstractCard> clonedCards = referencedCards
-                .stream()
-                .map(card -> {
-                    return switch (card.getClass().getSimpleName()) {
-                        case "DefaultCard" -> DefaultCard
-                                .makeNewAsCloned(((DefaultCard) card), targetDeck, preset);
-                        case "TypingCard" -> TypingCard
-                                .makeNewAsCloned(((TypingCard) card), targetDeck, preset);
-                        default -> throw new RuntimeException("Card-type not implemented.");
-                    };
-                })
-                .toList();
-        log.debug("{} Cards cloned.", clonedCards.size());
+        CompiledSchedulerPreset preset = getPresetOrMakeDefault(targetDeck);
 
-        cardRepository.saveAll(clonedCards);
-        log.info("{} Cards cloned to Deck '{}'.", clonedCards.size(), targetDeck.getDeckName());
+        log.trace("Fetching up to {} active Cards from Reference-Deck '{}' after '{}'...",
+                chunkSize, referencedDeckId, checkpoint.getCursor());
+        CardPage page = cardRepository.findPageByDeckId(referencedDeckId, true, checkpoint.getCursor(), chunkSize);
+        log.debug("{} Reference-Cards fetched.", page.cards().size());
 
-        clonedCards.forEach(card ->
-                kafkaProducer.send(new CardCreated(getTraceIdOrEmptyString(), null,
-                        new CardCreatedDto(card.getCardId(), targetDeckId, targetDeck.getUserId()))));
+        List<AbstractCard> clonedCards = page.cards().stream()
+                .map(card -> cloneCardToDeck(card, targetDeck, preset))
+                .toList();
+        cardRepository.insertAllIgnoringDuplicates(clonedCards);
+        // Outboxed even within a consumer-transaction: chunks are checkpointed in Mongo, a Deck of any size would
+        // not fit into a single Kafka transaction.
+        eventOutbox.enqueueAllInOutbox(clonedCards.stream()
+                .map(card -> new CardCreated(getTraceIdOrEmptyString(), null,
+                        new CardCreatedDto(card.getCardId(), targetDeckId, targetDeck.getUserId())))
+                .toList());
+
+        checkpoint.advance(page.nextCursor(), clonedCards.size());
+        deckCloneCheckpointRepository.save(checkpoint);
+        log.debug("{} Cards cloned so far. Clone-Checkpoint: {}", checkpoint.getClonedCount(), checkpoint);
+        return checkpoint;
+    }
+
+    private @NotNull AbstractCard cloneCardToDeck(@NotNull AbstractCard referenceCard, @NotNull Deck targetDeck,
+            @NotNull CompiledSchedulerPreset preset) {
+        UUID clonedCardId = UUID.nameUUIDFromBytes((targetDeck.getDeckId() + ":" + referenceCard.getCardId())
+                .getBytes(StandardCharsets.UTF_8));
+        return switch (referenceCard.getClass().getSimpleName()) {
+            case "DefaultCard" -> DefaultCard
+                    .makeNewAsCloned(clonedCardId, ((DefaultCard) referenceCard), targetDeck, preset);
+            case "TypingCard" -> TypingCard
+                    .makeNewAsCloned(clonedCardId, ((TypingCard) referenceCard), targetDeck, preset);
+            default -> throw new RuntimeException("Card-type not implemented.");
+        };
     }
 
+    @Transactional
     public DefaultCard createDefaultCard(@Nullable UUID correlationId,
             @NotNull UUID deckId, @Nullable Hint hint, @Nullable View frontView, @Nullable View backView) {
         log.trace("Creating new DefaultCard for Deck '{}'...", deckId);
@@ -127,7 +174,7 @@ public class CardService {
         log.trace("Fetch Deck by id '{}'...", deckId);
         Deck deck = deckRepository.findById(deckId).orElseThrow();
         log.debug("Fetched Deck: {}", deck);
-        SchedulerPreset preset = getPresetOrMakeDefault(deck);
+        CompiledSchedulerPreset preset = getPresetOrMakeDefault(deck);
         log.trace("Make new DefaultCard...");
         DefaultCard card = DefaultCard.makeNew(deck, preset, hint, frontView, backView);
 
@@ -136,11 +183,12 @@ public class CardService {
                 deck.getUsername(), deck.getDeckName());
         log.debug("New Default-Card: {}", card);
 
-        kafkaProducer.send(new CardCreated(getTraceIdOrEmptyString(), correlationId, new CardCreatedDto(
+        eventOutbox.enqueue(new CardCreated(getTraceIdOrEmptyString(), correlationId, new CardCreatedDto(
                 card.getCardId(), deckId, deck.getUserId())));
         return card;
     }
 
+    @Transactional
     public DefaultCard overrideAsDefaultCard(@Nullable UUID correlationId,
             @NotNull UUID parentCardId, @Nullable Hint hint, @Nullable View frontView, @Nullable View backView) {
         log.trace("Overriding Parent-Card as Default-Card...");
@@ -160,18 +208,19 @@ public class CardService {
         log.trace("Disabling Parent-Card...");
         parentCard.disableCard();
 
-        cardRepository.save(parentCard);
+        cardRepository.updateStatus(parentCard);
         cardRepository.save(newCard);
         log.info("Parent-Card successfully overridden with new DefaultCard.");
 
-        kafkaProducer.send(new CardOverridden(getTraceIdOrEmptyString(), correlationId,
+        eventOutbox.enqueue(new CardOverridden(getTraceIdOrEmptyString(), correlationId,
                 new CardOverriddenDto(
                         parentCardId, newCard.getCardId(), newCard.getEmbeddedDeck().getDeckId(),
                         deck.getUserId())));
         return newCard;
     }
 
-    public void overrideWithReferencedCard(@Nullable UUID correlationId,
+    @Transactional
+    public void overrideWithReferencedCard(@Nullable UUID correlationId, @NotNull UUID commandId,
             @NotNull UUID parentCardId, @NotNull UUID referenceCardId, @NotNull UUID deckId) {
         log.trace("Overriding Parent-Card '{}' with Reference-Card '{}'...",
                 parentCardId, referenceCardId);
@@ -179,6 +228,15 @@ public class CardService {
         log.trace("Fetching Deck by id '{}'...", deckId);
         Deck deck = deckRepository.findById(deckId).orElseThrow();
         log.debug("Deck fetched by id: {}", deck);
+
+        UUID newCardId = makeCommandScopedId("override-card", commandId);
+        if (cardRepository.existsById(newCardId)) {
+            log.info("Parent-Card '{}' has already been overridden by '{}'. Republishing its event...",
+                    parentCardId, newCardId);
+            eventOutbox.enqueue(new CardOverridden(getTraceIdOrEmptyString(), correlationId,
+                    new CardOverriddenDto(parentCardId, newCardId, deckId, deck.getUserId())));
+            return;
+        }
         log.trace("Fetching Parent-Card by id '{}'...", parentCardId);
         AbstractCard parentCard = cardRepository.findById(parentCardId).orElseThrow();
         log.trace("Fetching Reference-Card by id '{}'...", referenceCardId);
@@ -188,7 +246,7 @@ public class CardService {
         switch (referenceCard.getClass().getSimpleName()) {
             case "DefaultCard" -> {
                 newCard = DefaultCard.makeNewAsOverridden(
-                        parentCard, deck, ((DefaultCard) referenceCard).getHint(),
+                        newCardId, parentCard, deck, ((DefaultCard) referenceCard).getHint(),
                         ((DefaultCard) referenceCard).getFrontView(), ((DefaultCard) referenceCard).getBackView()
                 );
                 log.debug("Parent-Card: {}", parentCard.getScheduler());
@@ -196,7 +254,7 @@ public class CardService {
                 log.debug("New-Card: {}", (DefaultCard) newCard);
             }
             case "TypingCard" -> {
-                newCard = TypingCard.makeNewAsOverridden(parentCard, deck);
+                newCard = TypingCard.makeNewAsOverridden(newCardId, parentCard, deck);
                 log.debug("Parent-Card: {}", parentCard.getScheduler());
                 log.debug("Reference-Card: {}", (TypingCard) referenceCard);
                 log.debug("New-Card: {}", (TypingCard) newCard);
@@ -206,15 +264,16 @@ public class CardService {
         log.trace("Disabling Parent-Card...");
         parentCard.disableCard();
 
-        cardRepository.save(parentCard);
+        cardRepository.updateStatus(parentCard);
         cardRepository.save(newCard);
         log.info("Parent-Card successfully overridden with Reference-Card to Deck '{}'.",
                 deck.getDeckName().getName());
 
-        kafkaProducer.send(new CardOverridden(getTraceIdOrEmptyString(), correlationId,
+        eventOutbox.enqueue(new CardOverridden(getTraceIdOrEmptyString(), correlationId,
                 new CardOverriddenDto(parentCardId, newCard.getCardId(), deckId, deck.getUserId())));
     }
 
+    @Transactional
     public void disableCard(@NotNull UUID cardId) {
         log.trace("Disabling Card '{}'...", cardId);
 
@@ -228,51 +287,110 @@ public class CardService {
         log.debug("Fetched Deck: {}", deck);
 
         card.disableCard();
-        cardRepository.save(card);
+        cardRepository.updateStatus(card);
         log.info("Card successfully disabled.");
         log.debug("Updated Card: {}", card);
 
-        kafkaProducer.send(new CardDisabled(getTraceIdOrEmptyString(), new CardDisabledDto(
+        eventOutbox.enqueue(new CardDisabled(getTraceIdOrEmptyString(), new CardDisabledDto(
                 cardId, deck.getUserId())));
     }
 
+    /**
+     * Disables the next chunk of a disabled Deck's Cards. The disabled Cards, their CardsDisabled-event and the
+     * advanced checkpoint are committed in one transaction, so a crash in between never loses the event.
+     */
+    @Transactional
+    public @NotNull DeckDisableCheckpoint disableNextCardChunk(@NotNull DeckDisableCheckpoint checkpoint,
+            int chunkSize) {
+        log.trace("Disabling up to {} active {}-Cards of disabled Deck '{}'...",
+                chunkSize, checkpoint.getCardType(), checkpoint.getDeckId());
+
+        List<UUID> disabledCardIds = cardRepository.disableNextActiveCards(
+                checkpoint.getDeckId(), checkpoint.getCardType(), chunkSize);
+        log.debug("{} Cards disabled.", disabledCardIds.size());
+        if (!disabledCardIds.isEmpty()) {
+            eventOutbox.enqueue(new CardsDisabled(getTraceIdOrEmptyString(), new CardsDisabledDto(
+                    checkpoint.getDeckId(), checkpoint.getUserId(), disabledCardIds)));
+        }
+
+        checkpoint.advance(disabledCardIds.size(), disabledCardIds.size() < chunkSize);
+        deckDisableCheckpointRepository.save(checkpoint);
+        log.debug("Disable-Checkpoint: {}", checkpoint);
+        return checkpoint;
+    }
+
     public void reviewCard(@NotNull UUID cardId, @NotNull ReviewAction reviewAction) {
         log.trace("Reviewing Card '{}' as '{}'...", cardId, reviewAction);
 
-        log.trace("Fetching Card by id '{}'...", cardId);
-        AbstractCard card = cardRepository.findById(cardId).orElseThrow();
-        log.debug("Fetched Card: {}", card.getScheduler());
+        log.trace("Fetching Card-Scheduler by id '{}'...", cardId);
+        VersionedScheduler versionedScheduler = cardRepository.findSchedulerById(cardId).orElseThrow();
+        log.debug("Fetched Card-Scheduler: {}", versionedScheduler.scheduler());
 
-        card.reviewCard(reviewAction);
-        cardRepository.save(card);
+        versionedScheduler.scheduler().review(reviewAction);
+        cardRepository.updateScheduler(versionedScheduler);
         log.info("Card successfully reviewed as {}.", reviewAction);
-        log.debug("Updated scheduler: {}", card.getScheduler());
+        log.debug("Updated scheduler: {}", versionedScheduler.scheduler());
+    }
+
+    public @NotNull List<ReviewResult> reviewCards(@NotNull List<ReviewActivity> reviewActivities) {
+        log.trace("Reviewing {} Cards in batch...", reviewActivities.size());
+
+        Set<UUID> cardIds = reviewActivities.stream()
+                .map(ReviewActivity::cardId)
+                .collect(Collectors.toSet());
+        log.trace("Fetching Card-Schedulers for {} Cards...", cardIds.size());
+        Map<UUID, VersionedScheduler> schedulersById = cardRepository.findSchedulersByIds(cardIds)
+                .stream()
+                .collect(Collectors.toMap(VersionedScheduler::cardId, scheduler -> scheduler));
+        log.debug("{} Card-Schedulers fetched.", schedulersById.size());
+
+        reviewActivities.stream()
+                .filter(activity -> schedulersById.containsKey(activity.cardId()))
+                .sorted(Comparator.comparing(ReviewActivity::reviewedAt))
+                .forEach(activity -> schedulersById.get(activity.cardId()).scheduler()
+                        .review(activity.reviewAction(), activity.reviewedAt()));
+
+        Set<UUID> conflictingCardIds = cardRepository.updateSchedulers(schedulersById.values().stream().toList());
+        log.info("{} Cards reviewed in batch. {} not found, {} modified concurrently.",
+                schedulersById.size() - conflictingCardIds.size(), cardIds.size() - schedulersById.size(),
+                conflictingCardIds.size());
+
+        return reviewActivities.stream()
+                .map(activity -> new ReviewResult(activity.cardId(),
+                        !schedulersById.containsKey(activity.cardId()) ? ReviewStatus.NOT_FOUND :
+                        conflictingCardIds.contains(activity.cardId()) ? ReviewStatus.CONFLICT :
+                        ReviewStatus.REVIEWED))
+                .toList();
     }
 
     public void graduateCard(@NotNull UUID cardId) {
         log.trace("Graduating Card '{}'...", cardId);
 
-        log.trace("Fetching Card by id '{}'...", cardId);
-        AbstractCard card = cardRepository.findById(cardId).orElseThrow();
-        log.debug("Fetched Card-Scheduler: {}", card.getScheduler());
+        log.trace("Fetching Card-Scheduler by id '{}'...", cardId);
+        VersionedScheduler versionedScheduler = cardRepository.findSchedulerById(cardId).orElseThrow();
+        log.debug("Fetched Card-Scheduler: {}", versionedScheduler.scheduler());
 
-        card.graduateCard();
-        cardRepository.save(card);
+        versionedScheduler.scheduler().graduate();
+        cardRepository.updateScheduler(versionedScheduler);
         log.info("Card-Scheduler successfully graduated.");
-        log.debug("Updated Scheduler: {}", card.getScheduler());
+        log.debug("Updated Scheduler: {}", versionedScheduler.scheduler());
     }
 
     public void resetCardScheduler(@NotNull UUID cardId) {
         log.trace("Resetting Card-Scheduler for Card '{}'...", cardId);
 
-        log.trace("Fetching Card by id '{}'...", cardId);
-        AbstractCard card = cardRepository.findById(cardId).orElseThrow();
-        log.debug("Fetched Card-Scheduler: {}", card.getScheduler());
+        log.trace("Fetching Card-Scheduler by id '{}'...", cardId);
+        VersionedScheduler versionedScheduler = cardRepository.findSchedulerById(cardId).orElseThrow();
+        log.debug("Fetched Card-Scheduler: {}", versionedScheduler.scheduler());
 
-        card.resetScheduler();
-        cardRepository.save(card);
+        versionedScheduler.scheduler().reset();
+        cardRepository.updateScheduler(versionedScheduler);
         log.info("Card-Scheduler successfully resetted.");
-        log.debug("Updated Card-Scheduler: {}", card.getScheduler());
+        log.debug("Updated Card-Scheduler: {}", versionedScheduler.scheduler());
+    }
+
+    private static @NotNull UUID makeCommandScopedId(@NotNull String scope, @NotNull UUID commandId) {
+        return UUID.nameUUIDFromBytes((scope + ":" + commandId).getBytes(StandardCharsets.UTF_8));
     }
 
     private String getTraceIdOrEmptyString() {
@@ -283,14 +401,15 @@ public class CardService {
         }
     }
 
-    private @NotNull SchedulerPreset getPresetOrMakeDefault(@NotNull Deck deck) {
-        if (deck.getSchedulerPreset() != null) {
-            SchedulerPreset preset = deck.getSchedulerPreset();
-            log.trace("Preset '{}' fetched from Deck.", preset.getPresetName());
-            return preset;
-        } else {
-            log.trace("Transient Default-Preset created.");
-            return schedulerPresetService.createTransientDefaultPreset(deck.getUserId());
+    private @NotNull CompiledSchedulerPreset getPresetOrMakeDefault(@NotNull Deck deck) {
+        if (deck.getSchedulerPresetReference() != null) {
+            CompiledSchedulerPreset preset = schedulerPresetRegistry.resolve(deck.getSchedulerPresetReference());
+            if (preset.getIsActive()) {
+                log.trace("Preset '{}' resolved from Deck.", preset.getPresetName());
+                return preset;
+            }
         }
+        log.trace("Default-Preset used.");
+        return CompiledSchedulerPreset.DEFAULT;
     }
 }
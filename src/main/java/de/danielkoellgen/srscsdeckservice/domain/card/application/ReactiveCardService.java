@@ -0,0 +1,44 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.application;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.ReviewAction;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.ReactiveCardRepository;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+public class ReactiveCardService {
+
+    private final ReactiveCardRepository cardRepository;
+
+    private final Logger log = LoggerFactory.getLogger(ReactiveCardService.class);
+
+    @Autowired
+    public ReactiveCardService(ReactiveCardRepository cardRepository) {
+        this.cardRepository = cardRepository;
+    }
+
+    public @NotNull Mono<Void> reviewCard(@NotNull UUID cardId, @NotNull ReviewAction reviewAction) {
+        log.trace("Reviewing Card '{}' as '{}'...", cardId, reviewAction);
+
+        return cardRepository.findSchedulerById(cardId)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Card '" + cardId + "' not found.")))
+                .flatMap(versionedScheduler -> {
+                    log.debug("Fetched Card-Scheduler: {}", versionedScheduler.scheduler());
+                    versionedScheduler.scheduler().review(reviewAction);
+                    return cardRepository.updateScheduler(versionedScheduler)
+                            .doOnSuccess(ignored -> {
+                                log.info("Card successfully reviewed as {}.", reviewAction);
+                                log.debug("Updated scheduler: {}", versionedScheduler.scheduler());
+                            });
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.application;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.ReviewAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReviewActivity(
+
+    @NotNull UUID cardId,
+
+    @NotNull ReviewAction reviewAction,
+
+    @NotNull LocalDateTime reviewedAt
+
+) {
+}
@@ -0,0 +1,14 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.application;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+public record ReviewResult(
+
+    @NotNull UUID cardId,
+
+    @NotNull ReviewStatus reviewStatus
+
+) {
+}
@@ -0,0 +1,7 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.application;
+
+public enum ReviewStatus {
+    REVIEWED,
+    NOT_FOUND,
+    CONFLICT
+}
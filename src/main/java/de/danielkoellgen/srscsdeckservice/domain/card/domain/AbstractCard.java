@@ -1,7 +1,7 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.domain;
 
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
-import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,6 +12,7 @@ import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
@@ -41,6 +42,14 @@ public class AbstractCard {
     @Field("is_active")
     private Boolean isActive;
 
+    @Nullable
+    @Field("disabled_at")
+    private LocalDateTime disabledAt;
+
+    @Nullable
+    @Field("version")
+    private Long version;
+
     @Transient
     private final Logger log = LoggerFactory.getLogger(AbstractCard.class);
 
@@ -67,6 +76,7 @@ public class AbstractCard {
 
     public void disableCard() {
         isActive = false;
+        disabledAt = LocalDateTime.now();
         log.debug("AbstractCard.isActive has been set to '{}'.", isActive);
     }
 
@@ -82,7 +92,7 @@ public class AbstractCard {
         scheduler.review(reviewAction);
     }
 
-    public void replaceSchedulerPreset(@NotNull SchedulerPreset schedulerPreset) {
+    public void replaceSchedulerPreset(@NotNull CompiledSchedulerPreset schedulerPreset) {
         scheduler.updateSchedulerPreset(schedulerPreset);
     }
 
@@ -94,6 +104,8 @@ public class AbstractCard {
                 ", deck=" + deck +
                 ", embeddedDeck=" + embeddedDeck +
                 ", isActive=" + isActive +
+                ", disabledAt=" + disabledAt +
+                ", version=" + version +
                 '}';
     }
 }
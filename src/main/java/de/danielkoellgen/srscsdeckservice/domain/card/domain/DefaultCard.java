@@ -1,18 +1,27 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.domain;
 
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
-import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.util.UUID;
 
 @Document("default_cards")
+@CompoundIndexes({
+        @CompoundIndex(name = "deck_due_queue",
+                def = "{'deck.deck_id': 1, 'is_active': 1, 'scheduler.next_review.date_time': 1}"),
+        @CompoundIndex(name = "deck_keyset", def = "{'deck.deck_id': 1, 'is_active': 1, '_id': 1}"),
+        @CompoundIndex(name = "archive_queue", def = "{'is_active': 1, 'disabled_at': 1}"),
+        @CompoundIndex(name = "parent_card_id", def = "{'parent_card_id': 1}")
+})
 @Getter
 public class DefaultCard extends AbstractCard {
 
@@ -44,15 +53,20 @@ public class DefaultCard extends AbstractCard {
         this.backView = backView;
     }
 
-    public static @NotNull DefaultCard makeNew(@NotNull Deck deck, @NotNull SchedulerPreset schedulerPreset,
+    public static @NotNull DefaultCard makeNew(@NotNull Deck deck, @NotNull CompiledSchedulerPreset schedulerPreset,
             @Nullable Hint hint, @Nullable View frontView, @Nullable View backView) {
         return new DefaultCard(UUID.randomUUID(), null, deck, new EmbeddedDeck(deck),
                 new Scheduler(schedulerPreset), true, hint, frontView, backView);
     }
 
     public static @NotNull DefaultCard makeNewAsCloned(@NotNull DefaultCard referenceCard, @NotNull Deck deck,
-            @NotNull SchedulerPreset schedulerPreset) {
-        return new DefaultCard(UUID.randomUUID(), null, deck, new EmbeddedDeck(deck),
+            @NotNull CompiledSchedulerPreset schedulerPreset) {
+        return makeNewAsCloned(UUID.randomUUID(), referenceCard, deck, schedulerPreset);
+    }
+
+    public static @NotNull DefaultCard makeNewAsCloned(@NotNull UUID cardId, @NotNull DefaultCard referenceCard,
+            @NotNull Deck deck, @NotNull CompiledSchedulerPreset schedulerPreset) {
+        return new DefaultCard(cardId, null, deck, new EmbeddedDeck(deck),
                 new Scheduler(schedulerPreset), true, referenceCard.getHint(), referenceCard.getFrontView(),
                 referenceCard.getFrontView());
     }
@@ -65,7 +79,12 @@ public class DefaultCard extends AbstractCard {
 
     public static @NotNull DefaultCard makeNewAsOverridden(@NotNull AbstractCard parentCard, @NotNull Deck deck,
             @Nullable Hint hint, @Nullable View frontView, @Nullable View backView) {
-        return new DefaultCard(UUID.randomUUID(), parentCard.getCardId(), deck, new EmbeddedDeck(deck),
+        return makeNewAsOverridden(UUID.randomUUID(), parentCard, deck, hint, frontView, backView);
+    }
+
+    public static @NotNull DefaultCard makeNewAsOverridden(@NotNull UUID cardId, @NotNull AbstractCard parentCard,
+            @NotNull Deck deck, @Nullable Hint hint, @Nullable View frontView, @Nullable View backView) {
+        return new DefaultCard(cardId, parentCard.getCardId(), deck, new EmbeddedDeck(deck),
                 parentCard.getScheduler(), true, hint, frontView, backView);
     }
 
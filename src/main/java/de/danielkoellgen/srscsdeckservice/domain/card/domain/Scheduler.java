@@ -1,8 +1,10 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.domain;
 
 import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
 import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.EaseFactor;
 import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPresetReference;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
@@ -21,11 +23,12 @@ public class Scheduler {
 
     @Nullable
     @Transient
-    private SchedulerPreset schedulerPreset;
+    @EqualsAndHashCode.Exclude
+    private CompiledSchedulerPreset schedulerPreset;
 
     @NotNull
     @Field("scheduler_preset")
-    private EmbeddedSchedulerPreset embeddedSchedulerPreset;
+    private SchedulerPresetReference presetReference;
 
     @NotNull
     @Field("maturity_state")
@@ -64,12 +67,17 @@ public class Scheduler {
     private LapseStep lapseStep;
 
     @Transient
+    @EqualsAndHashCode.Exclude
     private final Logger log = LoggerFactory.getLogger(Scheduler.class);
 
 
-    public Scheduler (@NotNull SchedulerPreset schedulerPreset) {
+    public Scheduler(@NotNull SchedulerPreset schedulerPreset) {
+        this(CompiledSchedulerPreset.makeFromPreset(schedulerPreset));
+    }
+
+    public Scheduler (@NotNull CompiledSchedulerPreset schedulerPreset) {
         this.schedulerPreset = schedulerPreset;
-        this.embeddedSchedulerPreset = new EmbeddedSchedulerPreset(schedulerPreset);
+        this.presetReference = schedulerPreset.makeReference();
         this.maturityState = MaturityState.LEARNING;
         this.reviewState = ReviewState.LEARNING;
         this.reviewCount = ReviewCount.startNewCount();
@@ -83,7 +91,7 @@ public class Scheduler {
 
     @PersistenceConstructor
     public Scheduler(
-            @NotNull EmbeddedSchedulerPreset embeddedSchedulerPreset,
+            @NotNull SchedulerPresetReference presetReference,
             @NotNull MaturityState maturityState,
             @NotNull ReviewState reviewState,
             @NotNull ReviewCount reviewCount,
@@ -94,7 +102,7 @@ public class Scheduler {
             @NotNull EventDateTime lastReview,
             @NotNull EventDateTime nextReview
     ) {
-        this.embeddedSchedulerPreset = embeddedSchedulerPreset;
+        this.presetReference = presetReference;
         this.maturityState = maturityState;
         this.reviewState = reviewState;
         this.reviewCount = reviewCount;
@@ -106,9 +114,24 @@ public class Scheduler {
         this.nextReview = nextReview;
     }
 
+    public @NotNull CompiledSchedulerPreset getSchedulerPreset() {
+        if (schedulerPreset == null) {
+            throw new IllegalStateException("Preset '" + presetReference.getPresetId() + "' has not been resolved.");
+        }
+        return schedulerPreset;
+    }
+
+    public boolean isPresetResolved() {
+        return schedulerPreset != null;
+    }
+
+    public void resolvePreset(@NotNull CompiledSchedulerPreset schedulerPreset) {
+        this.schedulerPreset = schedulerPreset;
+    }
+
     public void reset() {
         log.trace("Resetting Scheduler...");
-        easeFactor = embeddedSchedulerPreset.getEaseFactor();
+        easeFactor = getSchedulerPreset().getEaseFactor();
         log.debug("EaseFactor set to config default '{}'.", easeFactor);
         maturityState = MaturityState.LEARNING;
         log.debug("MaturityState set to '{}'.", maturityState);
@@ -118,7 +141,7 @@ public class Scheduler {
         log.debug("ReviewCount resetted to '{}'.", reviewCount);
         lastReview = EventDateTime.makeFromLocalDateTime(LocalDateTime.now());
         log.debug("LastReview set to now '{}'.", lastReview);
-        learningStep = LearningStep.startLearningPath(embeddedSchedulerPreset.getLearningSteps());
+        learningStep = LearningStep.startLearningPath(getSchedulerPreset().getLearningSteps());
         log.debug("LearningStep resetted to config default '{}'.", learningStep);
         lapseStep = null;
         log.debug("LapseStep resetted to '{}'.", lapseStep);
@@ -138,41 +161,45 @@ public class Scheduler {
         lastReview = EventDateTime.makeFromLocalDateTime(LocalDateTime.now());
         log.debug("LastReview set to now '{}'.", lastReview);
         currentInterval = ReviewInterval.makeFromDuration(
-                embeddedSchedulerPreset.getLearningSteps().getLearningSteps().get(
-                    embeddedSchedulerPreset.getLearningSteps().getLearningSteps().size() - 1
+                getSchedulerPreset().getLearningSteps().getLearningSteps().get(
+                    getSchedulerPreset().getLearningSteps().getLearningSteps().size() - 1
                 ));
         log.debug("CurrentInterval set to last LearningStep '{}'.", currentInterval);
         nextReview = EventDateTime.makeFromLocalDateTime(
                 LocalDateTime.now().plus(currentInterval.getIntervalDuration()));
         log.debug("NextReview set to '{}.", nextReview);
         if (currentInterval.getIntervalDuration().toMinutes() >
-                embeddedSchedulerPreset.getMatureInterval().getMatureInterval().toMinutes()) {
+                getSchedulerPreset().getMatureInterval().getMatureInterval().toMinutes()) {
             maturityState = MaturityState.MATURED;
             log.debug("MaturityState graduated to 'MATURED'.");
         }
     }
 
     public void review(ReviewAction action) {
-        log.trace("Updating Scheduler as '{}'-Review...", action);
+        review(action, LocalDateTime.now());
+    }
+
+    public void review(@NotNull ReviewAction action, @NotNull LocalDateTime reviewedAt) {
+        log.trace("Updating Scheduler as '{}'-Review at '{}'...", action, reviewedAt);
         switch (action) {
-            case EASY -> easyReview();
-            case NORMAL -> normalReview();
-            case HARD -> hardReview();
-            case LAPSE -> lapseReview();
+            case EASY -> easyReview(reviewedAt);
+            case NORMAL -> normalReview(reviewedAt);
+            case HARD -> hardReview(reviewedAt);
+            case LAPSE -> lapseReview(reviewedAt);
         }
         reviewCount = reviewCount.incrementedCount();
         log.debug("ReviewCount incremented to '{}'.", reviewCount);
     }
 
-    public void easyReview() {
-        easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getEasyFactorModifier());
+    public void easyReview(@NotNull LocalDateTime reviewedAt) {
+        easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getEasyFactorModifier());
         log.debug("EaseFactor updated to '{}'.", easeFactor);
 
         if (reviewState == ReviewState.LEARNING) {
             log.trace("ReviewState is 'LEARNING'.");
             currentInterval = ReviewInterval.makeFromDurationWithModifier(
-                    embeddedSchedulerPreset.getLapseSteps().getLastStep(),
-                    embeddedSchedulerPreset.getEasyIntervalModifier()
+                    getSchedulerPreset().getLapseSteps().getLastStep(),
+                    getSchedulerPreset().getEasyIntervalModifier()
             );
             log.debug("CurrentInterval updated to '{}'.", currentInterval);
         }
@@ -181,7 +208,7 @@ public class Scheduler {
             assert lapseStep != null;
             currentInterval = ReviewInterval.makeFromDurationWithModifier(
                     lapseStep.getPenalisedPreLapseReviewInterval().getIntervalDuration(),
-                    embeddedSchedulerPreset.getEasyIntervalModifier()
+                    getSchedulerPreset().getEasyIntervalModifier()
             );
             log.debug("CurrentInterval updated to '{}'.", currentInterval);
             lapseStep = null;
@@ -190,29 +217,29 @@ public class Scheduler {
         if (reviewState == ReviewState.GRADUATED) {
             log.trace("ReviewState is 'GRADUATED'.");
             currentInterval = currentInterval.reviewInterval(
-                    easeFactor, embeddedSchedulerPreset.getEasyIntervalModifier());
+                    easeFactor, getSchedulerPreset().getEasyIntervalModifier());
             log.debug("CurrentInterval updated to '{}'.", currentInterval);
         }
         reviewState = ReviewState.GRADUATED;
         log.debug("ReviewState set to {}.", reviewState);
-        lastReview = EventDateTime.makeFromLocalDateTime(LocalDateTime.now());
-        log.debug("LastReview set to now '{}'.", lastReview);
+        lastReview = EventDateTime.makeFromLocalDateTime(reviewedAt);
+        log.debug("LastReview set to '{}'.", lastReview);
         nextReview = EventDateTime.makeFromLocalDateTime(
-                LocalDateTime.now().plus(currentInterval.getIntervalDuration()));
+                reviewedAt.plus(currentInterval.getIntervalDuration()));
         log.debug("NextReview set to '{}'.", nextReview);
     }
 
-    public void normalReview() {
+    public void normalReview(@NotNull LocalDateTime reviewedAt) {
         if (reviewState == ReviewState.LEARNING) {
-            if (learningStep.hasNextStep(embeddedSchedulerPreset.getLearningSteps())) {
+            if (learningStep.hasNextStep(getSchedulerPreset().getLearningSteps())) {
                 log.trace("ReviewState is 'LEARNING' and has at least one more step.");
-                learningStep = learningStep.takeNextStep(embeddedSchedulerPreset.getLearningSteps());
+                learningStep = learningStep.takeNextStep(getSchedulerPreset().getLearningSteps());
                 log.debug("LearningStep updated to next Step '{}'.", learningStep);
                 currentInterval = ReviewInterval.makeFromDuration(learningStep.getInterval());
                 log.debug("CurrentInterval updated to '{}'.", currentInterval);
             } else {
                 log.trace("ReviewState is 'LEARNING' with no more steps.");
-                easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getNormalFactorModifier());
+                easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getNormalFactorModifier());
                 log.debug("EaseFactor incremented to '{}'.", easeFactor);
                 currentInterval = currentInterval.reviewInterval(easeFactor, null);
                 log.debug("CurrentInterval updated to '{}'.", currentInterval);
@@ -222,15 +249,15 @@ public class Scheduler {
         }
         if (reviewState == ReviewState.LAPSING) {
             assert lapseStep != null;
-            if (lapseStep.hasNextStep(embeddedSchedulerPreset.getLapseSteps())) {
+            if (lapseStep.hasNextStep(getSchedulerPreset().getLapseSteps())) {
                 log.trace("ReviewState is 'LAPSING' with at least one more step.");
-                lapseStep = lapseStep.takeNextStep(embeddedSchedulerPreset.getLapseSteps());
+                lapseStep = lapseStep.takeNextStep(getSchedulerPreset().getLapseSteps());
                 log.debug("LapseStep updated to next Step '{}'.", lapseStep);
                 currentInterval = ReviewInterval.makeFromDuration(lapseStep.getInterval());
                 log.debug("CurrentInterval updated to '{}'.", currentInterval);
             } else {
                 log.trace("ReviewState is 'LAPSING' with no more steps.");
-                easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getNormalFactorModifier());
+                easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getNormalFactorModifier());
                 log.debug("EaseFactor incremented to '{}'.", easeFactor);
                 currentInterval = lapseStep.getPenalisedPreLapseReviewInterval();
                 log.debug("CurrentInterval back to regular with '{}'.", currentInterval);
@@ -242,46 +269,46 @@ public class Scheduler {
         }
         if (reviewState == ReviewState.GRADUATED) {
             log.trace("ReviewState is 'GRADUATED'.");
-            easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getNormalFactorModifier());
+            easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getNormalFactorModifier());
             log.debug("EaseFactor incremented to '{}'.", easeFactor);
             currentInterval = currentInterval.reviewInterval(easeFactor, null);
             log.debug("CurrentInterval updated to '{}'.", currentInterval);
         }
-        lastReview = EventDateTime.makeFromLocalDateTime(LocalDateTime.now());
-        log.debug("lastReview set to now '{}'.", lastReview);
+        lastReview = EventDateTime.makeFromLocalDateTime(reviewedAt);
+        log.debug("lastReview set to '{}'.", lastReview);
         nextReview = EventDateTime.makeFromLocalDateTime(
-                LocalDateTime.now().plus(currentInterval.getIntervalDuration()));
+                reviewedAt.plus(currentInterval.getIntervalDuration()));
         log.debug("NextReview set to '{}'.", nextReview);
     }
 
-    public void hardReview() {
+    public void hardReview(@NotNull LocalDateTime reviewedAt) {
         if (reviewState == ReviewState.LEARNING) {
             // NO CHANGE
             log.trace("ReviewState is 'LEARNING'.");
         }
         if (reviewState == ReviewState.LAPSING) {
             log.trace("ReviewState is 'LAPSING'.");
-            easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getHardFactorModifier());
+            easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getHardFactorModifier());
             log.debug("EaseFactor lowered to '{}'.", easeFactor);
         }
         if (reviewState == ReviewState.GRADUATED) {
             log.trace("ReviewState is 'GRADUATED'.");
-            easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getHardFactorModifier());
+            easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getHardFactorModifier());
             log.debug("EaseFactor lowered to '{}'.", easeFactor);
         }
-        currentInterval = currentInterval.modifyInterval(embeddedSchedulerPreset.getHardIntervalModifier());
+        currentInterval = currentInterval.modifyInterval(getSchedulerPreset().getHardIntervalModifier());
         log.debug("CurrentInterval updated to '{}'.", currentInterval);
-        lastReview = EventDateTime.makeFromLocalDateTime(LocalDateTime.now());
-        log.debug("LastReview set to now '{}'.", lastReview);
+        lastReview = EventDateTime.makeFromLocalDateTime(reviewedAt);
+        log.debug("LastReview set to '{}'.", lastReview);
         nextReview = EventDateTime.makeFromLocalDateTime(
-                LocalDateTime.now().plus(currentInterval.getIntervalDuration()));
+                reviewedAt.plus(currentInterval.getIntervalDuration()));
         log.debug("NextReview updated to '{}'.", nextReview);
     }
 
-    public void lapseReview() {
+    public void lapseReview(@NotNull LocalDateTime reviewedAt) {
         if (reviewState == ReviewState.LEARNING) {
             log.trace("ReviewState is 'LEARNING'.");
-            learningStep = LearningStep.startLearningPath(embeddedSchedulerPreset.getLearningSteps());
+            learningStep = LearningStep.startLearningPath(getSchedulerPreset().getLearningSteps());
             log.debug("LearningStep resetted to the first learning-step '{}'.", learningStep);
             currentInterval = ReviewInterval.makeFromDuration(learningStep.getInterval());
             log.debug("CurrentInterval updated to '{}'.", currentInterval);
@@ -289,13 +316,13 @@ public class Scheduler {
         if (reviewState == ReviewState.LAPSING) {
             log.trace("ReviewState is 'LAPSING'.");
             assert lapseStep != null;
-            easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getLapseFactorModifier());
+            easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getLapseFactorModifier());
             log.debug("EaseFactor lowered to '{}'.", easeFactor);
             lapseStep = LapseStep.startLapsePath(
-                    embeddedSchedulerPreset.getLapseSteps(),
+                    getSchedulerPreset().getLapseSteps(),
                     lapseStep.getPenalisedPreLapseReviewInterval().lapsedInterval(
-                            embeddedSchedulerPreset.getMinimumInterval(),
-                            embeddedSchedulerPreset.getLapseIntervalModifier()
+                            getSchedulerPreset().getMinimumInterval(),
+                            getSchedulerPreset().getLapseIntervalModifier()
                     )
             );
             log.debug("LapseStep set to first lapse-step '{}'.", lapseStep);
@@ -304,10 +331,10 @@ public class Scheduler {
         }
         if (reviewState == ReviewState.GRADUATED) {
             log.trace("ReviewState is 'GRADUATED'.");
-            easeFactor = easeFactor.modifiedFactor(embeddedSchedulerPreset.getLapseFactorModifier());
+            easeFactor = easeFactor.modifiedFactor(getSchedulerPreset().getLapseFactorModifier());
             log.debug("EaseFactor lowered to '{}'.", easeFactor);
             lapseStep = LapseStep.startLapsePath(
-                    embeddedSchedulerPreset.getLapseSteps(), currentInterval
+                    getSchedulerPreset().getLapseSteps(), currentInterval
             );
             log.debug("LapseStep set to first lapse-step '{}'.", lapseStep);
             currentInterval = ReviewInterval.makeFromDuration(lapseStep.getInterval());
@@ -315,24 +342,23 @@ public class Scheduler {
             reviewState = ReviewState.LAPSING;
             log.debug("ReviewState set from 'GRADUATED' to 'LAPSING'.");
         }
-        lastReview = EventDateTime.makeFromLocalDateTime(LocalDateTime.now());
-        log.debug("LastReview set to now '{}'.", lastReview);
+        lastReview = EventDateTime.makeFromLocalDateTime(reviewedAt);
+        log.debug("LastReview set to '{}'.", lastReview);
         nextReview = EventDateTime.makeFromLocalDateTime(
-                LocalDateTime.now().plus(currentInterval.getIntervalDuration()));
+                reviewedAt.plus(currentInterval.getIntervalDuration()));
         log.debug("NextReview updated to '{}'.", nextReview);
     }
 
-    public void updateSchedulerPreset(@NotNull SchedulerPreset schedulerPreset) {
+    public void updateSchedulerPreset(@NotNull CompiledSchedulerPreset schedulerPreset) {
         this.schedulerPreset = schedulerPreset;
-        embeddedSchedulerPreset = new EmbeddedSchedulerPreset(schedulerPreset);
+        presetReference = schedulerPreset.makeReference();
         log.debug("Scheduler updated with Preset '{}'.", schedulerPreset.getPresetName());
     }
 
     @Override
     public String toString() {
         return "Scheduler{" +
-                "schedulerPreset=" + schedulerPreset +
-                ", embeddedSchedulerPreset=" + embeddedSchedulerPreset +
+                "presetReference=" + presetReference +
                 ", maturityState=" + maturityState +
                 ", reviewState=" + reviewState +
                 ", reviewCount=" + reviewCount +
@@ -1,15 +1,24 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.domain;
 
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
-import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.UUID;
 
 @Document("typing_cards")
+@CompoundIndexes({
+        @CompoundIndex(name = "deck_due_queue",
+                def = "{'deck.deck_id': 1, 'is_active': 1, 'scheduler.next_review.date_time': 1}"),
+        @CompoundIndex(name = "deck_keyset", def = "{'deck.deck_id': 1, 'is_active': 1, '_id': 1}"),
+        @CompoundIndex(name = "archive_queue", def = "{'is_active': 1, 'disabled_at': 1}"),
+        @CompoundIndex(name = "parent_card_id", def = "{'parent_card_id': 1}")
+})
 public class TypingCard extends AbstractCard {
 
     public TypingCard(@NotNull UUID cardId, @Nullable UUID parentCardId, @NotNull Deck deck,
@@ -23,14 +32,19 @@ public class TypingCard extends AbstractCard {
         super(cardId, parentCardId, embeddedDeck, scheduler, isActive);
     }
 
-    public static @NotNull TypingCard makeNew(@NotNull Deck deck, @NotNull SchedulerPreset schedulerPreset) {
+    public static @NotNull TypingCard makeNew(@NotNull Deck deck, @NotNull CompiledSchedulerPreset schedulerPreset) {
         return new TypingCard(UUID.randomUUID(), null, new EmbeddedDeck(deck),
                 new Scheduler(schedulerPreset), true);
     }
 
     public static @NotNull TypingCard makeNewAsCloned(@NotNull TypingCard referenceCard, @NotNull Deck deck,
-            @NotNull SchedulerPreset schedulerPreset) {
-        return new TypingCard(UUID.randomUUID(), null, deck, new EmbeddedDeck(deck),
+            @NotNull CompiledSchedulerPreset schedulerPreset) {
+        return makeNewAsCloned(UUID.randomUUID(), referenceCard, deck, schedulerPreset);
+    }
+
+    public static @NotNull TypingCard makeNewAsCloned(@NotNull UUID cardId, @NotNull TypingCard referenceCard,
+            @NotNull Deck deck, @NotNull CompiledSchedulerPreset schedulerPreset) {
+        return new TypingCard(cardId, null, deck, new EmbeddedDeck(deck),
                 new Scheduler(schedulerPreset), true);
     }
 
@@ -40,7 +54,12 @@ public class TypingCard extends AbstractCard {
     }
 
     public static @NotNull TypingCard makeNewAsOverridden(@NotNull AbstractCard parentCard, @NotNull Deck deck) {
-        return new TypingCard(UUID.randomUUID(), parentCard.getCardId(), deck, new EmbeddedDeck(deck),
+        return makeNewAsOverridden(UUID.randomUUID(), parentCard, deck);
+    }
+
+    public static @NotNull TypingCard makeNewAsOverridden(@NotNull UUID cardId, @NotNull AbstractCard parentCard,
+            @NotNull Deck deck) {
+        return new TypingCard(cardId, parentCard.getCardId(), deck, new EmbeddedDeck(deck),
                 parentCard.getScheduler(), true);
     }
 
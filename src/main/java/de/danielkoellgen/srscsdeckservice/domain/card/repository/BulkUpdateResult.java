@@ -0,0 +1,20 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import org.jetbrains.annotations.NotNull;
+
+public record BulkUpdateResult(
+
+    long matchedCount,
+
+    long modifiedCount
+
+) {
+
+    public static @NotNull BulkUpdateResult makeEmpty() {
+        return new BulkUpdateResult(0, 0);
+    }
+
+    public @NotNull BulkUpdateResult plus(@NotNull BulkUpdateResult other) {
+        return new BulkUpdateResult(matchedCount + other.matchedCount, modifiedCount + other.modifiedCount);
+    }
+}
@@ -0,0 +1,64 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pipelines shared by the blocking and the reactive card repository. Both card collections are read in one
+ * aggregation, each document is tagged with the CardType it has been read as.
+ */
+final class CardAggregations {
+
+    static final String CARD_TYPE_FIELD = "card_type";
+
+    private CardAggregations() {
+    }
+
+    static @NotNull Aggregation makeUnion(@NotNull Criteria criteria, @NotNull List<AggregationOperation> stages,
+            boolean isArchived) {
+        return Aggregation.newAggregation(makeUnionPipeline(criteria, stages,
+                List.of(new CardSource(CardType.DEFAULT, isArchived), new CardSource(CardType.TYPING, isArchived))));
+    }
+
+    /**
+     * Looks a Card up in the hot collections and the archives in one aggregation. Archives are only read if no hot
+     * collection holds the Card, as the pipeline stops at the first match.
+     */
+    static @NotNull Aggregation makeFindById(@NotNull UUID cardId) {
+        List<AggregationOperation> pipeline = makeUnionPipeline(Criteria.where("_id").is(cardId), List.of(),
+                CardSource.makeOrdered(null));
+        pipeline.add(Aggregation.limit(1));
+        return Aggregation.newAggregation(pipeline);
+    }
+
+    static @NotNull String getUnionCollectionName(boolean isArchived) {
+        return new CardSource(CardType.DEFAULT, isArchived).getCollectionName();
+    }
+
+    private static @NotNull List<AggregationOperation> makeUnionPipeline(@NotNull Criteria criteria,
+            @NotNull List<AggregationOperation> stages, @NotNull List<CardSource> sources) {
+        List<AggregationOperation> pipeline = new ArrayList<>(makeBranch(criteria, stages, sources.get(0).cardType()));
+        for (CardSource source : sources.subList(1, sources.size())) {
+            pipeline.add(UnionWithOperation.unionWith(source.getCollectionName())
+                    .pipeline(makeBranch(criteria, stages, source.cardType())));
+        }
+        return pipeline;
+    }
+
+    static @NotNull List<AggregationOperation> makeBranch(@NotNull Criteria criteria,
+            @NotNull List<AggregationOperation> stages, @NotNull CardType cardType) {
+        List<AggregationOperation> branch = new ArrayList<>();
+        branch.add(Aggregation.match(criteria));
+        branch.addAll(stages);
+        branch.add(Aggregation.addFields().addFieldWithValue(CARD_TYPE_FIELD, cardType.name()).build());
+        return branch;
+    }
+}
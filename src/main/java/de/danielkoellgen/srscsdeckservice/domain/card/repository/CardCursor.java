@@ -0,0 +1,47 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record CardCursor(
+
+    @NotNull CardType cardType,
+
+    @NotNull UUID cardId,
+
+    boolean isArchived
+
+) {
+    private static final String ARCHIVED_MARKER = "@archive";
+
+    public CardCursor(@NotNull CardType cardType, @NotNull UUID cardId) {
+        this(cardType, cardId, false);
+    }
+
+    public static @NotNull CardCursor makeFromEncoded(@NotNull String encodedCursor) {
+        String[] decoded = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8)
+                .split(":", 2);
+        if (decoded.length != 2) {
+            throw new IllegalArgumentException("Malformed cursor.");
+        }
+        boolean isArchived = decoded[0].endsWith(ARCHIVED_MARKER);
+        String cardType = isArchived
+                ? decoded[0].substring(0, decoded[0].length() - ARCHIVED_MARKER.length())
+                : decoded[0];
+        return new CardCursor(CardType.valueOf(cardType), UUID.fromString(decoded[1]), isArchived);
+    }
+
+    public @NotNull CardSource getSource() {
+        return new CardSource(cardType, isArchived);
+    }
+
+    public @NotNull String getEncoded() {
+        String source = cardType.name() + (isArchived ? ARCHIVED_MARKER : "");
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((source + ":" + cardId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The override chain of a Card: its ancestors, the Card itself and every Card overriding it, ordered from the root
+ * to the most recent overrides.
+ */
+public record CardLineage(
+
+    @NotNull UUID cardId,
+
+    @NotNull List<AbstractCard> cards
+
+) {
+    public static @NotNull CardLineage makeOrdered(@NotNull UUID cardId, @NotNull Collection<AbstractCard> cards) {
+        Map<UUID, AbstractCard> cardsById = cards.stream()
+                .collect(Collectors.toMap(AbstractCard::getCardId, Function.identity()));
+        Map<UUID, Integer> depths = new HashMap<>();
+        List<AbstractCard> orderedCards = cards.stream()
+                .sorted(Comparator.comparing(card -> getDepth(card, cardsById, depths)))
+                .toList();
+        return new CardLineage(cardId, orderedCards);
+    }
+
+    public @NotNull Optional<AbstractCard> findLatestActiveDescendant() {
+        Map<UUID, AbstractCard> cardsById = cards.stream()
+                .collect(Collectors.toMap(AbstractCard::getCardId, Function.identity()));
+        return cards.stream()
+                .filter(AbstractCard::getIsActive)
+                .filter(card -> isDescendantOrSelf(card, cardsById))
+                .reduce((first, second) -> second);
+    }
+
+    private boolean isDescendantOrSelf(@NotNull AbstractCard card, @NotNull Map<UUID, AbstractCard> cardsById) {
+        AbstractCard current = card;
+        while (current != null) {
+            if (current.getCardId().equals(cardId)) {
+                return true;
+            }
+            current = current.getParentCardId() != null ? cardsById.get(current.getParentCardId()) : null;
+        }
+        return false;
+    }
+
+    private static int getDepth(@NotNull AbstractCard card, @NotNull Map<UUID, AbstractCard> cardsById,
+            @NotNull Map<UUID, Integer> depths) {
+        Integer depth = depths.get(card.getCardId());
+        if (depth != null) {
+            return depth;
+        }
+        AbstractCard parentCard = card.getParentCardId() != null ? cardsById.get(card.getParentCardId()) : null;
+        depth = parentCard != null ? getDepth(parentCard, cardsById, depths) + 1 : 0;
+        depths.put(card.getCardId(), depth);
+        return depth;
+    }
+}
@@ -0,0 +1,16 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+public record CardPage(
+
+    @NotNull List<AbstractCard> cards,
+
+    @Nullable CardCursor nextCursor
+
+) {
+}
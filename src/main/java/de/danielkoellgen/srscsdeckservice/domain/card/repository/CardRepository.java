@@ -1,23 +1,59 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.repository;
 
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPresetReference;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface CardRepository {
 
     @NotNull Optional<AbstractCard> findById(@NotNull UUID cardId);
 
+    boolean existsById(@NotNull UUID cardId);
+
+    @NotNull Optional<CardLineage> findLineageById(@NotNull UUID cardId);
+
+    @NotNull Optional<VersionedScheduler> findSchedulerById(@NotNull UUID cardId);
+
+    @NotNull List<VersionedScheduler> findSchedulersByIds(@NotNull Collection<UUID> cardIds);
+
+    void updateScheduler(@NotNull VersionedScheduler versionedScheduler);
+
+    @NotNull Set<UUID> updateSchedulers(@NotNull List<VersionedScheduler> versionedSchedulers);
+
+    void updateStatus(@NotNull AbstractCard card);
+
+    @NotNull List<UUID> disableNextActiveCards(@NotNull UUID deckId, @NotNull CardType cardType, int limit);
+
+    int archiveInactiveCards(@NotNull CardType cardType, @NotNull LocalDateTime disabledBefore, int limit);
+
+    @NotNull BulkUpdateResult replaceSchedulerPresets(@NotNull UUID deckId, @NotNull SchedulerPresetReference preset);
+
     void save(@NotNull AbstractCard card);
 
     void saveAll(@NotNull List<AbstractCard> cards);
 
+    void insertAllIgnoringDuplicates(@NotNull List<AbstractCard> cards);
+
     void deleteAll();
 
     List<AbstractCard> findAllByEmbeddedDeck_DeckId(@NotNull UUID deckId);
 
     List<AbstractCard> findAllByEmbeddedDeck_DeckIdAndIsActive(@NotNull UUID deckId, Boolean isActive);
+
+    @NotNull CardPage findPageByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive,
+            @Nullable CardCursor cursor, int pageSize);
+
+    @NotNull Stream<AbstractCard> streamAllByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive);
+
+    @NotNull List<AbstractCard> findDueCardsByDeckId(@NotNull UUID deckId, @NotNull LocalDateTime dueAt, int limit);
 }
\ No newline at end of file
@@ -1,16 +1,48 @@
 package de.danielkoellgen.srscsdeckservice.domain.card.repository;
 
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.Scheduler;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.TypingCard;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetRegistry;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPresetReference;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.GraphLookupOperation;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Component
@@ -20,23 +52,211 @@ public class CardRepositoryImpl implements CardRepository {
     private final DefaultCardRepository defaultCardRepository;
     private final TypingCardRepository typingCardRepository;
 
+    private final MongoTemplate mongoTemplate;
+    private final SchedulerPresetRegistry schedulerPresetRegistry;
+
+    private static final String CARD_TYPE_FIELD = CardAggregations.CARD_TYPE_FIELD;
+    private static final String SCHEDULER_FIELD = "scheduler";
+    private static final String VERSION_FIELD = "version";
+    private static final String WRITE_TOKEN_FIELD = "write_token";
+    private static final String DECK_ID_FIELD = "deck.deck_id";
+    private static final String IS_ACTIVE_FIELD = "is_active";
+    private static final String DISABLED_AT_FIELD = "disabled_at";
+    private static final String LAST_REVIEW_FIELD = "scheduler.last_review.date_time";
+    private static final String PARENT_CARD_ID_FIELD = "parent_card_id";
+    private static final String LINEAGE_FIELD = "lineage";
+    private static final String COUNTERPART_LINEAGE_FIELD = "counterpart_lineage";
+
+    private static final List<CardType> CARD_TYPE_ORDER = List.of(CardType.DEFAULT, CardType.TYPING);
+
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private static final String NEXT_REVIEW_PROPERTY = "scheduler.nextReview.dateTime";
+    private static final String SCHEDULER_PRESET_PROPERTY = "scheduler.presetReference";
+
     @Autowired
-    public CardRepositoryImpl(DefaultCardRepository defaultCardRepository, TypingCardRepository typingCardRepository) {
+    public CardRepositoryImpl(DefaultCardRepository defaultCardRepository, TypingCardRepository typingCardRepository,
+            MongoTemplate mongoTemplate, SchedulerPresetRegistry schedulerPresetRegistry) {
         this.defaultCardRepository = defaultCardRepository;
         this.typingCardRepository = typingCardRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.schedulerPresetRegistry = schedulerPresetRegistry;
     }
 
     @Override
     public @NotNull Optional<AbstractCard> findById(@NotNull UUID cardId) {
-        Optional<DefaultCard> defaultCard = defaultCardRepository.findById(cardId);
-        if (defaultCard.isPresent()) {
-            return Optional.of(defaultCard.get());
+        Document document = mongoTemplate.aggregate(CardAggregations.makeFindById(cardId),
+                CardAggregations.getUnionCollectionName(false), Document.class).getUniqueMappedResult();
+        if (document == null) {
+            return Optional.empty();
+        }
+        return Optional.of(mapToCard(document));
+    }
+
+    @Override
+    public boolean existsById(@NotNull UUID cardId) {
+        return findDocumentById(cardId, Aggregation.project("_id")) != null;
+    }
+
+    @Override
+    public @NotNull Optional<CardLineage> findLineageById(@NotNull UUID cardId) {
+        Map<UUID, AbstractCard> cards = new LinkedHashMap<>();
+        Set<UUID> visitedIds = new HashSet<>();
+        Set<UUID> ancestorFrontier = Set.of(cardId);
+        Set<UUID> descendantFrontier = Set.of(cardId);
+        while (!ancestorFrontier.isEmpty() || !descendantFrontier.isEmpty()) {
+            visitedIds.addAll(ancestorFrontier);
+            visitedIds.addAll(descendantFrontier);
+            findLineageDocuments(ancestorFrontier, descendantFrontier).stream()
+                    .map(this::mapToCard)
+                    .forEach(card -> cards.putIfAbsent(card.getCardId(), card));
+            if (!cards.containsKey(cardId)) {
+                return Optional.empty();
+            }
+            Set<UUID> parentCardIds = cards.values().stream()
+                    .map(AbstractCard::getParentCardId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            ancestorFrontier = parentCardIds.stream()
+                    .filter(parentCardId -> !cards.containsKey(parentCardId) && !visitedIds.contains(parentCardId))
+                    .collect(Collectors.toSet());
+            descendantFrontier = cards.values().stream()
+                    .filter(card -> !card.getIsActive())
+                    .map(AbstractCard::getCardId)
+                    .filter(id -> !parentCardIds.contains(id) && !visitedIds.contains(id))
+                    .collect(Collectors.toSet());
+        }
+        return Optional.of(CardLineage.makeOrdered(cardId, cards.values()));
+    }
+
+    @Override
+    public @NotNull Optional<VersionedScheduler> findSchedulerById(@NotNull UUID cardId) {
+        Document document = findDocumentById(cardId, Aggregation.project(SCHEDULER_FIELD, VERSION_FIELD));
+        if (document == null) {
+            return Optional.empty();
+        }
+        return Optional.of(mapToVersionedScheduler(document));
+    }
+
+    @Override
+    public @NotNull List<VersionedScheduler> findSchedulersByIds(@NotNull Collection<UUID> cardIds) {
+        if (cardIds.isEmpty()) {
+            return List.of();
+        }
+        return findDocuments(Criteria.where("_id").in(cardIds),
+                List.of(Aggregation.project(SCHEDULER_FIELD, VERSION_FIELD)))
+                .stream()
+                .map(this::mapToVersionedScheduler)
+                .toList();
+    }
+
+    @Override
+    public void updateScheduler(@NotNull VersionedScheduler versionedScheduler) {
+        UpdateResult result = mongoTemplate.updateFirst(makeVersionGuardedQuery(versionedScheduler),
+                makeSchedulerUpdate(versionedScheduler), getCardClass(versionedScheduler.cardType()));
+        if (result.getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException("Scheduler of Card '" + versionedScheduler.cardId() +
+                    "' has been modified concurrently or the Card no longer exists.");
         }
-        Optional<TypingCard> typingCard = typingCardRepository.findById(cardId);
-        if (typingCard.isPresent()) {
-            return Optional.of(typingCard.get());
+    }
+
+    @Override
+    public @NotNull Set<UUID> updateSchedulers(@NotNull List<VersionedScheduler> versionedSchedulers) {
+        Set<UUID> conflictingCardIds = new HashSet<>();
+        Map<CardType, List<VersionedScheduler>> schedulersByType = versionedSchedulers.stream()
+                .collect(Collectors.groupingBy(VersionedScheduler::cardType));
+        schedulersByType.forEach((cardType, schedulers) -> {
+            UUID writeToken = UUID.randomUUID();
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(
+                    BulkOperations.BulkMode.UNORDERED, getCardClass(cardType));
+            schedulers.forEach(versionedScheduler -> bulkOperations.updateOne(
+                    makeVersionGuardedQuery(versionedScheduler),
+                    makeSchedulerUpdate(versionedScheduler).set(WRITE_TOKEN_FIELD, writeToken)));
+            BulkWriteResult result = bulkOperations.execute();
+            if (result.getMatchedCount() < schedulers.size()) {
+                conflictingCardIds.addAll(findConflictingCardIds(cardType, schedulers, writeToken));
+            }
+        });
+        return conflictingCardIds;
+    }
+
+    @Override
+    public void updateStatus(@NotNull AbstractCard card) {
+        Query query = Query.query(Criteria.where("_id").is(card.getCardId()).and(VERSION_FIELD).is(card.getVersion()));
+        Update update = new Update()
+                .set(IS_ACTIVE_FIELD, card.getIsActive())
+                .set(DISABLED_AT_FIELD, card.getDisabledAt())
+                .inc(VERSION_FIELD, 1);
+        UpdateResult result = mongoTemplate.updateFirst(query, update, card.getClass());
+        if (result.getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException("Card '" + card.getCardId() +
+                    "' has been modified concurrently or the Card no longer exists.");
         }
-        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull List<UUID> disableNextActiveCards(@NotNull UUID deckId, @NotNull CardType cardType, int limit) {
+        String collection = mongoTemplate.getCollectionName(getCardClass(cardType));
+        Query query = Query.query(Criteria.where(DECK_ID_FIELD).is(deckId).and(IS_ACTIVE_FIELD).is(true))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        query.fields().include("_id");
+        List<UUID> cardIds = mongoTemplate.find(query, Document.class, collection).stream()
+                .map(document -> document.get("_id", UUID.class))
+                .toList();
+        if (cardIds.isEmpty()) {
+            return cardIds;
+        }
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(cardIds).and(IS_ACTIVE_FIELD).is(true)),
+                new Update().set(IS_ACTIVE_FIELD, false).set(DISABLED_AT_FIELD, LocalDateTime.now())
+                        .inc(VERSION_FIELD, 1),
+                collection);
+        return cardIds;
+    }
+
+    @Override
+    public int archiveInactiveCards(@NotNull CardType cardType, @NotNull LocalDateTime disabledBefore, int limit) {
+        String hotCollection = CardSource.getHotCollectionName(cardType);
+        Criteria disabledLongAgo = new Criteria().orOperator(
+                Criteria.where(DISABLED_AT_FIELD).lt(disabledBefore),
+                Criteria.where(DISABLED_AT_FIELD).exists(false).and(LAST_REVIEW_FIELD).lt(disabledBefore));
+        Query query = Query.query(new Criteria().andOperator(
+                        Criteria.where(IS_ACTIVE_FIELD).is(false), disabledLongAgo))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        List<Document> documents = mongoTemplate.find(query, Document.class, hotCollection);
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CardSource.getArchiveCollectionName(cardType))
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY_ERROR_CODE)) {
+                throw e;
+            }
+        }
+        List<UUID> cardIds = documents.stream()
+                .map(document -> document.get("_id", UUID.class))
+                .toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(cardIds).and(IS_ACTIVE_FIELD).is(false)),
+                hotCollection);
+        return documents.size();
+    }
+
+    @Override
+    public @NotNull BulkUpdateResult replaceSchedulerPresets(@NotNull UUID deckId,
+            @NotNull SchedulerPresetReference preset) {
+        Query query = Query.query(makeDeckCriteria(deckId, true));
+        Update update = new Update()
+                .set(SCHEDULER_PRESET_PROPERTY, preset)
+                .inc(VERSION_FIELD, 1);
+        return CARD_TYPE_ORDER.stream()
+                .map(cardType -> mongoTemplate.updateMulti(query, update, getCardClass(cardType)))
+                .map(result -> new BulkUpdateResult(result.getMatchedCount(), result.getModifiedCount()))
+                .reduce(BulkUpdateResult.makeEmpty(), BulkUpdateResult::plus);
     }
 
     @Override
@@ -63,6 +283,23 @@ public class CardRepositoryImpl implements CardRepository {
         typingCardRepository.saveAll(typingCards);
     }
 
+    @Override
+    public void insertAllIgnoringDuplicates(@NotNull List<AbstractCard> cards) {
+        Map<Class<? extends AbstractCard>, List<AbstractCard>> cardsByClass = cards.stream()
+                .collect(Collectors.groupingBy(AbstractCard::getClass));
+        cardsByClass.forEach((cardClass, cardsOfClass) -> {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, cardClass)
+                        .insert(cardsOfClass)
+                        .execute();
+            } catch (BulkOperationException e) {
+                if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY_ERROR_CODE)) {
+                    throw e;
+                }
+            }
+        });
+    }
+
     @Override
     public void deleteAll() {
         typingCardRepository.deleteAll();
@@ -86,4 +323,231 @@ public class CardRepositoryImpl implements CardRepository {
                 .stream().map(card -> (AbstractCard) card).toList();
         return Stream.concat(defaultCards.stream(), typingCards.stream()).toList();
     }
+
+    @Override
+    public @NotNull CardPage findPageByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive,
+            @Nullable CardCursor cursor, int pageSize) {
+        List<AbstractCard> cards = new ArrayList<>();
+        CardCursor lastCursor = cursor;
+        for (CardSource source : CardSource.makeRemaining(isActive, cursor)) {
+            int remaining = pageSize - cards.size();
+            Criteria criteria = makeDeckCriteria(deckId, isActive);
+            if (cursor != null && cursor.getSource().equals(source)) {
+                criteria.and("_id").gt(cursor.cardId());
+            }
+            Query query = Query.query(criteria)
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(remaining + 1);
+            List<? extends AbstractCard> found = mongoTemplate.find(
+                    query, source.getCardClass(), source.getCollectionName());
+            if (found.size() > remaining) {
+                cards.addAll(found.subList(0, remaining));
+                return new CardPage(cards, remaining > 0
+                        ? source.makeCursor(found.get(remaining - 1).getCardId())
+                        : lastCursor);
+            }
+            cards.addAll(found);
+            if (!found.isEmpty()) {
+                lastCursor = source.makeCursor(found.get(found.size() - 1).getCardId());
+            }
+        }
+        return new CardPage(cards, null);
+    }
+
+    @Override
+    public @NotNull Stream<AbstractCard> streamAllByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive) {
+        Query query = Query.query(makeDeckCriteria(deckId, isActive));
+        return CardSource.makeOrdered(isActive).stream()
+                .flatMap(source -> mongoTemplate.stream(query, source.getCardClass(), source.getCollectionName()));
+    }
+
+    @Override
+    public @NotNull List<AbstractCard> findDueCardsByDeckId(@NotNull UUID deckId, @NotNull LocalDateTime dueAt,
+            int limit) {
+        Query query = Query.query(Criteria.where("embeddedDeck.deckId").is(deckId)
+                        .and("isActive").is(true)
+                        .and(NEXT_REVIEW_PROPERTY).lte(dueAt))
+                .with(Sort.by(Sort.Direction.ASC, NEXT_REVIEW_PROPERTY))
+                .limit(limit);
+        try (Stream<DefaultCard> defaultCards = mongoTemplate.stream(query, DefaultCard.class);
+             Stream<TypingCard> typingCards = mongoTemplate.stream(query, TypingCard.class)) {
+            return mergeByNextReview(List.of(defaultCards.iterator(), typingCards.iterator()), limit);
+        }
+    }
+
+    private static @NotNull Criteria makeDeckCriteria(@NotNull UUID deckId, @Nullable Boolean isActive) {
+        Criteria criteria = Criteria.where("embeddedDeck.deckId").is(deckId);
+        if (isActive != null) {
+            criteria.and("isActive").is(isActive);
+        } else {
+            criteria.and("isActive").in(true, false);
+        }
+        return criteria;
+    }
+
+    private static @NotNull List<AbstractCard> mergeByNextReview(
+            @NotNull List<Iterator<? extends AbstractCard>> sortedSources, int limit) {
+        PriorityQueue<MergeHead> heads = new PriorityQueue<>(Comparator.comparing(
+                (MergeHead head) -> head.card().getScheduler().getNextReview().getDateTime()));
+        sortedSources.stream()
+                .filter(Iterator::hasNext)
+                .forEach(source -> heads.add(new MergeHead(source.next(), source)));
+
+        List<AbstractCard> mergedCards = new ArrayList<>();
+        while (!heads.isEmpty() && mergedCards.size() < limit) {
+            MergeHead head = heads.poll();
+            mergedCards.add(head.card());
+            if (head.source().hasNext()) {
+                heads.add(new MergeHead(head.source().next(), head.source()));
+            }
+        }
+        return mergedCards;
+    }
+
+    private record MergeHead(@NotNull AbstractCard card, @NotNull Iterator<? extends AbstractCard> source) {
+    }
+
+    private @Nullable Document findDocumentById(@NotNull UUID cardId, @NotNull AggregationOperation... stages) {
+        return findDocuments(Criteria.where("_id").is(cardId), List.of(stages))
+                .stream().findFirst().orElse(null);
+    }
+
+    private @NotNull List<Document> findDocuments(@NotNull Criteria criteria,
+            @NotNull List<AggregationOperation> stages) {
+        return findDocuments(criteria, stages, false);
+    }
+
+    private @NotNull List<Document> findDocuments(@NotNull Criteria criteria,
+            @NotNull List<AggregationOperation> stages, boolean isArchived) {
+        return mongoTemplate.aggregate(CardAggregations.makeUnion(criteria, stages, isArchived),
+                        CardAggregations.getUnionCollectionName(isArchived), Document.class)
+                .getMappedResults();
+    }
+
+    /**
+     * Walks the override chain with $graphLookups into the hot and the archive collection of each CardType, all
+     * combined into a single aggregation. Ancestors are followed from the given ids, descendants from the children of
+     * the given ids. As archived Cards and their hot overrides are both looked up, chains only span several rounds if
+     * an override changed the CardType.
+     */
+    private @NotNull List<Document> findLineageDocuments(@NotNull Set<UUID> ancestorFrontier,
+            @NotNull Set<UUID> descendantFrontier) {
+        List<List<AggregationOperation>> branches = new ArrayList<>();
+        List<String> collections = new ArrayList<>();
+        for (CardSource source : CardSource.makeOrdered(null)) {
+            String collection = source.getCollectionName();
+            String counterpartCollection = new CardSource(source.cardType(), !source.isArchived()).getCollectionName();
+            if (!ancestorFrontier.isEmpty()) {
+                branches.add(CardAggregations.makeBranch(Criteria.where("_id").in(ancestorFrontier), List.of(
+                        makeAncestorLookup(collection, LINEAGE_FIELD),
+                        makeAncestorLookup(counterpartCollection, COUNTERPART_LINEAGE_FIELD)), source.cardType()));
+                collections.add(collection);
+            }
+            if (!descendantFrontier.isEmpty()) {
+                branches.add(CardAggregations.makeBranch(Criteria.where(PARENT_CARD_ID_FIELD).in(descendantFrontier),
+                        List.of(makeDescendantLookup(collection, LINEAGE_FIELD),
+                                makeDescendantLookup(counterpartCollection, COUNTERPART_LINEAGE_FIELD)),
+                        source.cardType()));
+                collections.add(collection);
+            }
+        }
+        List<AggregationOperation> pipeline = new ArrayList<>(branches.get(0));
+        for (int i = 1; i < branches.size(); i++) {
+            pipeline.add(UnionWithOperation.unionWith(collections.get(i)).pipeline(branches.get(i)));
+        }
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), collections.get(0), Document.class)
+                .getMappedResults().stream()
+                .flatMap(document -> flattenLineage(document).stream())
+                .toList();
+    }
+
+    private static @NotNull GraphLookupOperation makeAncestorLookup(@NotNull String collection, @NotNull String as) {
+        return Aggregation.graphLookup(collection)
+                .startWith(PARENT_CARD_ID_FIELD)
+                .connectFrom(PARENT_CARD_ID_FIELD)
+                .connectTo("_id")
+                .as(as);
+    }
+
+    private static @NotNull GraphLookupOperation makeDescendantLookup(@NotNull String collection,
+            @NotNull String as) {
+        return Aggregation.graphLookup(collection)
+                .startWith("_id")
+                .connectFrom("_id")
+                .connectTo(PARENT_CARD_ID_FIELD)
+                .as(as);
+    }
+
+    private static @NotNull List<Document> flattenLineage(@NotNull Document document) {
+        List<Document> documents = new ArrayList<>();
+        String cardType = document.getString(CARD_TYPE_FIELD);
+        List<Document> lineage = new ArrayList<>(document.getList(LINEAGE_FIELD, Document.class, List.of()));
+        lineage.addAll(document.getList(COUNTERPART_LINEAGE_FIELD, Document.class, List.of()));
+        document.remove(LINEAGE_FIELD);
+        document.remove(COUNTERPART_LINEAGE_FIELD);
+        documents.add(document);
+        lineage.forEach(lineageDocument -> {
+            lineageDocument.put(CARD_TYPE_FIELD, cardType);
+            documents.add(lineageDocument);
+        });
+        return documents;
+    }
+
+    private @NotNull List<UUID> findConflictingCardIds(@NotNull CardType cardType,
+            @NotNull List<VersionedScheduler> schedulers, @NotNull UUID writeToken) {
+        Query query = Query.query(Criteria.where("_id").in(schedulers.stream().map(VersionedScheduler::cardId).toList())
+                .and(WRITE_TOKEN_FIELD).is(writeToken));
+        query.fields().include("_id");
+        Set<UUID> appliedCardIds = mongoTemplate
+                .find(query, Document.class, mongoTemplate.getCollectionName(getCardClass(cardType)))
+                .stream()
+                .map(document -> document.get("_id", UUID.class))
+                .collect(Collectors.toSet());
+        return schedulers.stream()
+                .map(VersionedScheduler::cardId)
+                .filter(cardId -> !appliedCardIds.contains(cardId))
+                .toList();
+    }
+
+    private static @NotNull Query makeVersionGuardedQuery(@NotNull VersionedScheduler versionedScheduler) {
+        return Query.query(Criteria.where("_id").is(versionedScheduler.cardId())
+                .and(VERSION_FIELD).is(versionedScheduler.version()));
+    }
+
+    private static @NotNull Update makeSchedulerUpdate(@NotNull VersionedScheduler versionedScheduler) {
+        return new Update()
+                .set(SCHEDULER_FIELD, versionedScheduler.scheduler())
+                .inc(VERSION_FIELD, 1);
+    }
+
+    private static @NotNull Class<? extends AbstractCard> getCardClass(@NotNull CardType cardType) {
+        return switch (cardType) {
+            case DEFAULT -> DefaultCard.class;
+            case TYPING -> TypingCard.class;
+        };
+    }
+
+    private @NotNull VersionedScheduler mapToVersionedScheduler(@NotNull Document document) {
+        Number version = document.get(VERSION_FIELD, Number.class);
+        Scheduler scheduler = mongoTemplate.getConverter().read(
+                Scheduler.class, document.get(SCHEDULER_FIELD, Document.class));
+        resolvePreset(scheduler);
+        return new VersionedScheduler(
+                document.get("_id", UUID.class),
+                CardType.valueOf(document.getString(CARD_TYPE_FIELD)),
+                scheduler,
+                version != null ? version.longValue() : null
+        );
+    }
+
+    private @NotNull AbstractCard mapToCard(@NotNull Document document) {
+        CardType cardType = CardType.valueOf((String) document.remove(CARD_TYPE_FIELD));
+        AbstractCard card = mongoTemplate.getConverter().read(getCardClass(cardType), document);
+        resolvePreset(card.getScheduler());
+        return card;
+    }
+
+    private void resolvePreset(@NotNull Scheduler scheduler) {
+        scheduler.resolvePreset(schedulerPresetRegistry.resolve(scheduler.getPresetReference()));
+    }
 }
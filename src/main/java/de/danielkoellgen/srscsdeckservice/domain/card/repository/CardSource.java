@@ -0,0 +1,71 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.TypingCard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A collection Cards are read from: the hot collection of a CardType or its archive. Archives only hold inactive
+ * Cards and are read after all hot collections.
+ */
+public record CardSource(
+
+    @NotNull CardType cardType,
+
+    boolean isArchived
+
+) {
+    public static final String ARCHIVE_SUFFIX = "_archive";
+
+    private static final List<CardSource> HOT_SOURCES = List.of(
+            new CardSource(CardType.DEFAULT, false), new CardSource(CardType.TYPING, false));
+
+    private static final List<CardSource> ALL_SOURCES = List.of(
+            new CardSource(CardType.DEFAULT, false), new CardSource(CardType.TYPING, false),
+            new CardSource(CardType.DEFAULT, true), new CardSource(CardType.TYPING, true));
+
+    public static @NotNull List<CardSource> makeOrdered(@Nullable Boolean isActive) {
+        return Boolean.TRUE.equals(isActive) ? HOT_SOURCES : ALL_SOURCES;
+    }
+
+    public static @NotNull List<CardSource> makeRemaining(@Nullable Boolean isActive, @Nullable CardCursor cursor) {
+        List<CardSource> sources = makeOrdered(isActive);
+        if (cursor == null) {
+            return sources;
+        }
+        int cursorIndex = sources.indexOf(cursor.getSource());
+        return cursorIndex >= 0 ? sources.subList(cursorIndex, sources.size()) : List.of();
+    }
+
+    public static @NotNull String getHotCollectionName(@NotNull CardType cardType) {
+        return switch (cardType) {
+            case DEFAULT -> "default_cards";
+            case TYPING -> "typing_cards";
+        };
+    }
+
+    public static @NotNull String getArchiveCollectionName(@NotNull CardType cardType) {
+        return getHotCollectionName(cardType) + ARCHIVE_SUFFIX;
+    }
+
+    public @NotNull String getCollectionName() {
+        return isArchived ? getArchiveCollectionName(cardType) : getHotCollectionName(cardType);
+    }
+
+    public @NotNull Class<? extends AbstractCard> getCardClass() {
+        return switch (cardType) {
+            case DEFAULT -> DefaultCard.class;
+            case TYPING -> TypingCard.class;
+        };
+    }
+
+    public @NotNull CardCursor makeCursor(@NotNull UUID cardId) {
+        return new CardCursor(cardType, cardId, isArchived);
+    }
+}
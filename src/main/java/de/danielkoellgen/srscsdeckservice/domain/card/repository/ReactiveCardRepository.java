@@ -0,0 +1,23 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveCardRepository {
+
+    @NotNull Mono<AbstractCard> findById(@NotNull UUID cardId);
+
+    @NotNull Mono<VersionedScheduler> findSchedulerById(@NotNull UUID cardId);
+
+    @NotNull Flux<AbstractCard> findAllByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive);
+
+    @NotNull Mono<CardPage> findPageByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive,
+            @Nullable CardCursor cursor, int pageSize);
+
+    @NotNull Mono<Void> updateScheduler(@NotNull VersionedScheduler versionedScheduler);
+}
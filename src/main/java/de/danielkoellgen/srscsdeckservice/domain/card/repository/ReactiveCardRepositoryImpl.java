@@ -0,0 +1,173 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.Scheduler;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.TypingCard;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetRegistry;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Scope;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Scope("singleton")
+@Profile("reactive")
+public class ReactiveCardRepositoryImpl implements ReactiveCardRepository {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final SchedulerPresetRegistry schedulerPresetRegistry;
+
+    private static final String SCHEDULER_FIELD = "scheduler";
+    private static final String VERSION_FIELD = "version";
+
+    @Autowired
+    public ReactiveCardRepositoryImpl(ReactiveMongoTemplate mongoTemplate,
+            SchedulerPresetRegistry schedulerPresetRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.schedulerPresetRegistry = schedulerPresetRegistry;
+    }
+
+    @Override
+    public @NotNull Mono<AbstractCard> findById(@NotNull UUID cardId) {
+        return mongoTemplate.aggregate(CardAggregations.makeFindById(cardId),
+                        CardAggregations.getUnionCollectionName(false), Document.class)
+                .next()
+                .flatMap(this::mapToCard);
+    }
+
+    @Override
+    public @NotNull Mono<VersionedScheduler> findSchedulerById(@NotNull UUID cardId) {
+        return findDocuments(Criteria.where("_id").is(cardId),
+                        List.of(Aggregation.project(SCHEDULER_FIELD, VERSION_FIELD)), false)
+                .next()
+                .flatMap(this::mapToVersionedScheduler);
+    }
+
+    @Override
+    public @NotNull Flux<AbstractCard> findAllByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive) {
+        return Flux.concat(CardSource.makeOrdered(isActive).stream()
+                .map(source -> findByDeckIdAfter(deckId, isActive, null, null, source))
+                .toList());
+    }
+
+    @Override
+    public @NotNull Mono<CardPage> findPageByDeckId(@NotNull UUID deckId, @Nullable Boolean isActive,
+            @Nullable CardCursor cursor, int pageSize) {
+        return Flux.concat(CardSource.makeRemaining(isActive, cursor).stream()
+                        .map(source -> findByDeckIdAfter(deckId, isActive, cursor, pageSize + 1, source)
+                                .map(card -> new SourcedCard(card, source)))
+                        .toList())
+                .take(pageSize + 1)
+                .collectList()
+                .map(sourcedCards -> {
+                    List<AbstractCard> cards = sourcedCards.stream().map(SourcedCard::card).toList();
+                    if (cards.size() <= pageSize) {
+                        return new CardPage(cards, null);
+                    }
+                    SourcedCard lastCard = sourcedCards.get(pageSize - 1);
+                    return new CardPage(cards.subList(0, pageSize),
+                            lastCard.source().makeCursor(lastCard.card().getCardId()));
+                });
+    }
+
+    @Override
+    public @NotNull Mono<Void> updateScheduler(@NotNull VersionedScheduler versionedScheduler) {
+        Query query = Query.query(Criteria.where("_id").is(versionedScheduler.cardId())
+                .and(VERSION_FIELD).is(versionedScheduler.version()));
+        Update update = new Update()
+                .set(SCHEDULER_FIELD, versionedScheduler.scheduler())
+                .inc(VERSION_FIELD, 1);
+        return mongoTemplate.updateFirst(query, update, getCardClass(versionedScheduler.cardType()))
+                .flatMap(result -> result.getMatchedCount() == 0
+                        ? Mono.error(new OptimisticLockingFailureException("Scheduler of Card '" +
+                                versionedScheduler.cardId() + "' has been modified concurrently or the Card no " +
+                                "longer exists."))
+                        : Mono.empty());
+    }
+
+    private @NotNull Flux<Document> findDocuments(@NotNull Criteria criteria,
+            @NotNull List<AggregationOperation> stages, boolean isArchived) {
+        return mongoTemplate.aggregate(CardAggregations.makeUnion(criteria, stages, isArchived),
+                CardAggregations.getUnionCollectionName(isArchived), Document.class);
+    }
+
+    private @NotNull Flux<AbstractCard> findByDeckIdAfter(@NotNull UUID deckId, @Nullable Boolean isActive,
+            @Nullable CardCursor cursor, @Nullable Integer limit, @NotNull CardSource source) {
+        Criteria criteria = Criteria.where("embeddedDeck.deckId").is(deckId);
+        if (isActive != null) {
+            criteria.and("isActive").is(isActive);
+        } else {
+            criteria.and("isActive").in(true, false);
+        }
+        if (cursor != null && cursor.getSource().equals(source)) {
+            criteria.and("_id").gt(cursor.cardId());
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return mongoTemplate.find(query, source.getCardClass(), source.getCollectionName()).cast(AbstractCard.class);
+    }
+
+    private @NotNull Mono<AbstractCard> mapToCard(@NotNull Document document) {
+        CardType cardType = CardType.valueOf((String) document.remove(CardAggregations.CARD_TYPE_FIELD));
+        AbstractCard card = mongoTemplate.getConverter().read(getCardClass(cardType), document);
+        return resolvePreset(card.getScheduler()).thenReturn(card);
+    }
+
+    private @NotNull Mono<VersionedScheduler> mapToVersionedScheduler(@NotNull Document document) {
+        Number version = document.get(VERSION_FIELD, Number.class);
+        Scheduler scheduler = mongoTemplate.getConverter().read(
+                Scheduler.class, document.get(SCHEDULER_FIELD, Document.class));
+        return resolvePreset(scheduler).thenReturn(new VersionedScheduler(
+                document.get("_id", UUID.class),
+                CardType.valueOf(document.getString(CardAggregations.CARD_TYPE_FIELD)),
+                scheduler,
+                version != null ? version.longValue() : null
+        ));
+    }
+
+    private @NotNull Mono<Scheduler> resolvePreset(@NotNull Scheduler scheduler) {
+        CompiledSchedulerPreset cached = schedulerPresetRegistry.findCached(scheduler.getPresetReference());
+        if (cached != null) {
+            scheduler.resolvePreset(cached);
+            return Mono.just(scheduler);
+        }
+        return Mono.fromCallable(() -> {
+                    scheduler.resolvePreset(schedulerPresetRegistry.resolve(scheduler.getPresetReference()));
+                    return scheduler;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private record SourcedCard(@NotNull AbstractCard card, @NotNull CardSource source) {
+    }
+
+    private static @NotNull Class<? extends AbstractCard> getCardClass(@NotNull CardType cardType) {
+        return switch (cardType) {
+            case DEFAULT -> DefaultCard.class;
+            case TYPING -> TypingCard.class;
+        };
+    }
+}
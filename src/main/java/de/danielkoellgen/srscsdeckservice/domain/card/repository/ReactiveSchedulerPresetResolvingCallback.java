@@ -0,0 +1,49 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.Scheduler;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetRegistry;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of {@link SchedulerPresetResolvingCallback}. Cached presets are resolved in place, misses
+ * are loaded off the event-loop.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveSchedulerPresetResolvingCallback implements ReactiveAfterConvertCallback<AbstractCard> {
+
+    private final ObjectProvider<SchedulerPresetRegistry> schedulerPresetRegistry;
+
+    @Autowired
+    public ReactiveSchedulerPresetResolvingCallback(ObjectProvider<SchedulerPresetRegistry> schedulerPresetRegistry) {
+        this.schedulerPresetRegistry = schedulerPresetRegistry;
+    }
+
+    @Override
+    public @NotNull Publisher<AbstractCard> onAfterConvert(@NotNull AbstractCard card, @NotNull Document document,
+            @NotNull String collection) {
+        Scheduler scheduler = card.getScheduler();
+        SchedulerPresetRegistry registry = schedulerPresetRegistry.getObject();
+        CompiledSchedulerPreset cached = registry.findCached(scheduler.getPresetReference());
+        if (cached != null) {
+            scheduler.resolvePreset(cached);
+            return Mono.just(card);
+        }
+        return Mono.fromCallable(() -> {
+                    scheduler.resolvePreset(registry.resolve(scheduler.getPresetReference()));
+                    return card;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
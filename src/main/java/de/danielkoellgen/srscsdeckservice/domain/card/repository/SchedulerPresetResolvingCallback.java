@@ -0,0 +1,32 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetRegistry;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the preset referenced by a Card's Scheduler right after the Card has been read.
+ */
+@Component
+public class SchedulerPresetResolvingCallback implements AfterConvertCallback<AbstractCard> {
+
+    private final ObjectProvider<SchedulerPresetRegistry> schedulerPresetRegistry;
+
+    @Autowired
+    public SchedulerPresetResolvingCallback(ObjectProvider<SchedulerPresetRegistry> schedulerPresetRegistry) {
+        this.schedulerPresetRegistry = schedulerPresetRegistry;
+    }
+
+    @Override
+    public @NotNull AbstractCard onAfterConvert(@NotNull AbstractCard card, @NotNull Document document,
+            @NotNull String collection) {
+        card.getScheduler().resolvePreset(schedulerPresetRegistry.getObject()
+                .resolve(card.getScheduler().getPresetReference()));
+        return card;
+    }
+}
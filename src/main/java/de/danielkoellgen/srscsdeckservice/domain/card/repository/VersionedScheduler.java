@@ -0,0 +1,21 @@
+package de.danielkoellgen.srscsdeckservice.domain.card.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.Scheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+public record VersionedScheduler(
+
+    @NotNull UUID cardId,
+
+    @NotNull CardType cardType,
+
+    @NotNull Scheduler scheduler,
+
+    @Nullable Long version
+
+) {
+}
@@ -0,0 +1,49 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck.application;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckCloneCheckpoint;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckCloneCheckpointRepository;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Copies the Cards of a Reference-Deck to its clone in chunks. Each chunk commits on its own
+ * {@link DeckCloneCheckpoint}, so an interrupted clone resumes where it stopped.
+ */
+@Component
+public class DeckCardCloner {
+
+    private final CardService cardService;
+    private final DeckCloneCheckpointRepository deckCloneCheckpointRepository;
+
+    private final Integer chunkSize;
+
+    private final Logger log = LoggerFactory.getLogger(DeckCardCloner.class);
+
+    @Autowired
+    public DeckCardCloner(CardService cardService, DeckCloneCheckpointRepository deckCloneCheckpointRepository,
+            @Value("${decks.clone.chunkSize:500}") Integer chunkSize) {
+        this.cardService = cardService;
+        this.deckCloneCheckpointRepository = deckCloneCheckpointRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    public void cloneCards(@NotNull UUID referencedDeckId, @NotNull UUID targetDeckId) {
+        log.trace("Cloning Cards from Deck '{}' to Deck '{}'...", referencedDeckId, targetDeckId);
+        log.trace("Fetching Clone-Checkpoint by id '{}'...", targetDeckId);
+        DeckCloneCheckpoint checkpoint = deckCloneCheckpointRepository.findById(targetDeckId)
+                .orElseGet(() -> new DeckCloneCheckpoint(targetDeckId, referencedDeckId));
+        log.debug("Clone-Checkpoint: {}", checkpoint);
+
+        while (!checkpoint.getIsCompleted()) {
+            checkpoint = cardService.cloneNextCardChunk(checkpoint, chunkSize);
+        }
+        log.info("{} Cards cloned to Deck '{}'.", checkpoint.getClonedCount(), targetDeckId);
+    }
+}
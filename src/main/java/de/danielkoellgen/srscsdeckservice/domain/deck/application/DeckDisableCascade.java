@@ -0,0 +1,102 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck.application;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckDisableCheckpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Disables the Cards of disabled Decks in the background. Each pending {@link DeckDisableCheckpoint} is leased by
+ * one instance and worked off in chunks, so an interrupted cascade resumes where it stopped. A run is bounded to a
+ * number of chunks, as it shares the scheduling thread with the outbox relay.
+ */
+@Component
+@ConditionalOnProperty(name = "decks.disableCascade.enabled", havingValue = "true", matchIfMissing = true)
+public class DeckDisableCascade {
+
+    private final CardService cardService;
+    private final MongoTemplate mongoTemplate;
+
+    private final Integer chunkSize;
+    private final Integer maxChunksPerRun;
+    private final Duration leaseDuration;
+
+    private final Counter disabledCards;
+
+    private final Logger log = LoggerFactory.getLogger(DeckDisableCascade.class);
+
+    @Autowired
+    public DeckDisableCascade(CardService cardService, MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            @Value("${decks.disableCascade.chunkSize:1000}") Integer chunkSize,
+            @Value("${decks.disableCascade.maxChunksPerRun:10}") Integer maxChunksPerRun,
+            @Value("${decks.disableCascade.leaseMs:60000}") Long leaseMs) {
+        this.cardService = cardService;
+        this.mongoTemplate = mongoTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.disabledCards = Counter.builder("decks.disable.cascade.cards").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${decks.disableCascade.intervalMs:1000}")
+    public void processPending() {
+        int chunks = 0;
+        DeckDisableCheckpoint checkpoint;
+        while (chunks < maxChunksPerRun && (checkpoint = leaseNextPending()) != null) {
+            chunks += cascade(checkpoint, maxChunksPerRun - chunks);
+        }
+    }
+
+    private int cascade(@NotNull DeckDisableCheckpoint checkpoint, int maxChunks) {
+        log.trace("Cascading disabled Deck '{}' to its Cards...", checkpoint.getDeckId());
+        int chunks = 0;
+        while (!checkpoint.getIsCompleted() && chunks < maxChunks) {
+            long disabledBefore = checkpoint.getDisabledCount();
+            checkpoint.renewLease(LocalDateTime.now().plus(leaseDuration));
+            checkpoint = cardService.disableNextCardChunk(checkpoint, chunkSize);
+            disabledCards.increment(checkpoint.getDisabledCount() - disabledBefore);
+            chunks++;
+        }
+        if (!checkpoint.getIsCompleted()) {
+            releaseLease(checkpoint);
+            log.debug("{} Cards of disabled Deck '{}' disabled so far. Continuing with the next run.",
+                    checkpoint.getDisabledCount(), checkpoint.getDeckId());
+            return chunks;
+        }
+        log.info("{} Cards of disabled Deck '{}' successfully disabled.", checkpoint.getDisabledCount(),
+                checkpoint.getDeckId());
+        return chunks;
+    }
+
+    private @Nullable DeckDisableCheckpoint leaseNextPending() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("isCompleted").is(false).orOperator(
+                Criteria.where("leasedUntil").is(null),
+                Criteria.where("leasedUntil").lt(now)));
+        Update update = new Update().set("leasedUntil", now.plus(leaseDuration));
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                DeckDisableCheckpoint.class);
+    }
+
+    private void releaseLease(@NotNull DeckDisableCheckpoint checkpoint) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(checkpoint.getDeckId())),
+                new Update().set("leasedUntil", null), DeckDisableCheckpoint.class);
+    }
+}
@@ -1,16 +1,18 @@
 package de.danielkoellgen.srscsdeckservice.domain.deck.application;
 
-import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
-import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.BulkUpdateResult;
 import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckDisableCheckpoint;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckDisableCheckpointRepository;
 import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
 import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPresetReference;
 import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.repository.SchedulerPresetRepository;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
 import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
-import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import de.danielkoellgen.srscsdeckservice.events.outbox.EventOutbox;
 import de.danielkoellgen.srscsdeckservice.events.producer.deck.DeckCreated;
 import de.danielkoellgen.srscsdeckservice.events.producer.deck.DeckDisabled;
 import de.danielkoellgen.srscsdeckservice.events.producer.deck.dto.DeckCreatedDto;
@@ -22,7 +24,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,8 +37,8 @@ public class DeckService {
     private final UserRepository userRepository;
     private final CardRepository cardRepository;
     private final SchedulerPresetRepository schedulerPresetRepository;
-    private final KafkaProducer kafkaProducer;
-    private final CardService cardService;
+    private final EventOutbox eventOutbox;
+    private final DeckDisableCheckpointRepository deckDisableCheckpointRepository;
 
     @Autowired
     private Tracer tracer;
@@ -44,36 +48,67 @@ public class DeckService {
     @Autowired
     public DeckService(DeckRepository deckRepository, UserRepository userRepository,
             CardRepository cardRepository, SchedulerPresetRepository schedulerPresetRepository,
-            KafkaProducer kafkaProducer, CardService cardService) {
+            EventOutbox eventOutbox,
+            DeckDisableCheckpointRepository deckDisableCheckpointRepository) {
         this.deckRepository = deckRepository;
         this.userRepository = userRepository;
         this.cardRepository = cardRepository;
         this.schedulerPresetRepository = schedulerPresetRepository;
-        this.kafkaProducer = kafkaProducer;
-        this.cardService = cardService;
+        this.eventOutbox = eventOutbox;
+        this.deckDisableCheckpointRepository = deckDisableCheckpointRepository;
     }
 
+    @Transactional
     public Deck createNewDeck(@Nullable UUID correlationId, @NotNull UUID userId,
             @NotNull DeckName deckName) {
+        return createNewDeck(correlationId, UUID.randomUUID(), userId, deckName);
+    }
+
+    @Transactional
+    public Deck createNewDeck(@Nullable UUID correlationId, @NotNull UUID commandId, @NotNull UUID userId,
+            @NotNull DeckName deckName) {
         log.trace("Creating new Deck '{}'...", deckName.getName());
+        UUID deckId = UUID.nameUUIDFromBytes(("create-deck:" + commandId).getBytes(StandardCharsets.UTF_8));
+        Deck existingDeck = deckRepository.findById(deckId).orElse(null);
+        if (existingDeck != null) {
+            log.info("Deck '{}' has already been created. Republishing its event...", deckId);
+            eventOutbox.enqueue(new DeckCreated(getTraceIdOrEmptyString(), correlationId,
+                    new DeckCreatedDto(existingDeck)));
+            return existingDeck;
+        }
         log.trace("Fetching User by id '{}'...", userId);
         User user = userRepository.findById(userId).orElseThrow();
         log.debug("Fetched User: {}", user);
-        Deck deck = new Deck(user, deckName);
+        Deck deck = new Deck(deckId, user, deckName);
 
         deckRepository.save(deck);
         log.info("New Deck '{}' created for '{}'.", deckName.getName(),
                 user.getUsername().getUsername());
         log.debug("New Deck: {}", deck);
 
-        kafkaProducer.send(new DeckCreated(getTraceIdOrEmptyString(), correlationId,
+        eventOutbox.enqueue(new DeckCreated(getTraceIdOrEmptyString(), correlationId,
                 new DeckCreatedDto(deck)));
         return deck;
     }
 
-    public void cloneDeck(@Nullable UUID correlationId, @NotNull UUID referencedDeckId,
+    /**
+     * Creates the cloned Deck and its DeckCreated-event in one transaction. Its Cards are copied afterwards by
+     * {@link DeckCardCloner} in checkpointed chunks.
+     */
+    @Transactional
+    public Deck cloneDeck(@Nullable UUID correlationId, @NotNull UUID commandId, @NotNull UUID referencedDeckId,
             @NotNull UUID userId, @NotNull DeckName deckName) {
         log.trace("Cloning Reference-Deck '{}' for User '{}'...", referencedDeckId, userId);
+        UUID clonedDeckId = UUID.nameUUIDFromBytes(("clone-deck:" + commandId).getBytes(StandardCharsets.UTF_8));
+        Deck existingDeck = deckRepository.findById(clonedDeckId).orElse(null);
+        if (existingDeck != null) {
+            log.info("Deck '{}' has already been cloned from Reference-Deck '{}'. Republishing its event...",
+                    clonedDeckId, referencedDeckId);
+            eventOutbox.enqueue(new DeckCreated(getTraceIdOrEmptyString(), correlationId,
+                    new DeckCreatedDto(existingDeck)));
+            return existingDeck;
+        }
+
         log.trace("Fetching User by id '{}'...", userId);
         User user = userRepository.findById(userId).orElseThrow();
         log.debug("Fetched User: {}", user);
@@ -82,17 +117,18 @@ public class DeckService {
         Deck referencedDeck = deckRepository.findById(referencedDeckId).orElseThrow();
         log.trace("Reference-Deck: {}", referencedDeck);
 
-        Deck clonedDeck = new Deck(user, deckName);
+        Deck clonedDeck = new Deck(clonedDeckId, user, deckName);
         deckRepository.save(clonedDeck);
-        log.info("Reference-Deck '{}' successfully cloned to new Deck '{}'. Copying Cards...",
+        log.info("Reference-Deck '{}' successfully cloned to new Deck '{}'.",
                 referencedDeck.getDeckName(), clonedDeck.getDeckName());
         log.debug("Cloned Deck: {}", clonedDeck);
 
-        kafkaProducer.send(new DeckCreated(getTraceIdOrEmptyString(), correlationId,
+        eventOutbox.enqueue(new DeckCreated(getTraceIdOrEmptyString(), correlationId,
                 new DeckCreatedDto(clonedDeck)));
-        cardService.cloneCardsToDeck(referencedDeckId, clonedDeck.getDeckId());
+        return clonedDeck;
     }
 
+    @Transactional
     public void deleteDeck(@NotNull UUID deckId) {
         log.trace("Deleting Deck '{}'...", deckId);
         log.trace("Fetching Deck by id '{}'...", deckId);
@@ -101,13 +137,40 @@ public class DeckService {
 
         deck.disableDeck();
         deckRepository.save(deck);
-        log.info("Deck '{}' successfully disabled.", deck.getDeckName().getName());
+        deckDisableCheckpointRepository.save(new DeckDisableCheckpoint(deckId, deck.getUserId()));
+        log.info("Deck '{}' successfully disabled. Its Cards are disabled in the background.",
+                deck.getDeckName().getName());
         log.debug("Disabled Deck: {}", deck);
 
-        kafkaProducer.send(new DeckDisabled(getTraceIdOrEmptyString(), new DeckDisabledDto(deck)));
+        eventOutbox.enqueue(new DeckDisabled(getTraceIdOrEmptyString(), new DeckDisabledDto(deck)));
     }
 
-    public void changePreset(@NotNull UUID deckId, @NotNull UUID presetId) {
+    @Transactional
+    public void disableDecksOfUser(@NotNull UUID userId) {
+        log.trace("Disabling all Decks of User '{}'...", userId);
+        log.trace("Fetching Decks by user-id '{}'...", userId);
+        List<Deck> activeDecks = deckRepository.findDecksByEmbeddedUser_UserId(userId).stream()
+                .filter(Deck::getIsActive)
+                .toList();
+        log.debug("{} active Decks fetched.", activeDecks.size());
+        if (activeDecks.isEmpty()) {
+            return;
+        }
+
+        activeDecks.forEach(Deck::disableDeck);
+        deckRepository.saveAll(activeDecks);
+        deckDisableCheckpointRepository.saveAll(activeDecks.stream()
+                .map(deck -> new DeckDisableCheckpoint(deck.getDeckId(), userId))
+                .toList());
+        log.info("{} Decks of User '{}' successfully disabled. Their Cards are disabled in the background.",
+                activeDecks.size(), userId);
+
+        eventOutbox.enqueueAll(activeDecks.stream()
+                .map(deck -> new DeckDisabled(getTraceIdOrEmptyString(), new DeckDisabledDto(deck)))
+                .toList());
+    }
+
+    public @NotNull BulkUpdateResult changePreset(@NotNull UUID deckId, @NotNull UUID presetId) {
         log.trace("Replacing Deck's '{}' Preset with '{}'...", deckId, presetId);
         log.trace("Fetching Deck by id '{}'...", deckId);
         Deck deck = deckRepository.findById(deckId).orElseThrow();
@@ -123,17 +186,12 @@ public class DeckService {
                 preset.getPresetName());
         log.debug("Updated Deck: {}", deck);
 
-        log.trace("Updating Preset for all active Cards in Deck...");
-        log.trace("Fetching Cards by deckId '{}' and isActive 'true'.", deckId);
-        List<AbstractCard> cards = cardRepository
-                .findAllByEmbeddedDeck_DeckIdAndIsActive(deckId, true);
-        log.debug("{} Cards fetched.", cards.size());
-        cards.forEach(element -> element.replaceSchedulerPreset(preset));
-        log.debug("Updated Cards: {}", cards);
-
-        cardRepository.saveAll(cards);
-        log.info("{} active Cards updated with new Preset '{}'.", cards.size(),
-                preset.getPresetName());
+        log.trace("Replacing Preset for all active Cards in Deck '{}'...", deckId);
+        BulkUpdateResult result = cardRepository.replaceSchedulerPresets(deckId,
+                SchedulerPresetReference.makeFromPreset(preset));
+        log.info("{} active Cards matched and {} updated with new Preset '{}'.", result.matchedCount(),
+                result.modifiedCount(), preset.getPresetName());
+        return result;
     }
 
     private String getTraceIdOrEmptyString() {
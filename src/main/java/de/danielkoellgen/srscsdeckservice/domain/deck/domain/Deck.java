@@ -1,6 +1,7 @@
 package de.danielkoellgen.srscsdeckservice.domain.deck.domain;
 
 import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPresetReference;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.Unwrapped;
@@ -19,6 +21,7 @@ import java.util.UUID;
 
 @Getter
 @Document("decks")
+@CompoundIndex(name = "user_id", def = "{'user._id': 1}")
 public class Deck {
 
     @Id
@@ -43,10 +46,14 @@ public class Deck {
 
     @Nullable
     @Field("scheduler_preset_id")
-    private SchedulerPreset schedulerPreset;
+    private SchedulerPresetReference schedulerPresetReference;
 
     public Deck(@NotNull User user, @NotNull DeckName deckName) {
-        this.deckId = UUID.randomUUID();
+        this(UUID.randomUUID(), user, deckName);
+    }
+
+    public Deck(@NotNull UUID deckId, @NotNull User user, @NotNull DeckName deckName) {
+        this.deckId = deckId;
         this.deckName = deckName;
         this.user = user;
         this.embeddedUser = new EmbeddedUser(user);
@@ -76,8 +83,8 @@ public class Deck {
         log.debug("Deck.isActive has been set to '{}'.", isActive);
     }
 
-    public void updateSchedulerPreset(@Nullable SchedulerPreset schedulerPreset) {
-        this.schedulerPreset = schedulerPreset;
+    public void updateSchedulerPreset(@NotNull SchedulerPreset schedulerPreset) {
+        this.schedulerPresetReference = SchedulerPresetReference.makeFromPreset(schedulerPreset);
         log.debug("Preset replaced with '{}'.", schedulerPreset.getPresetId());
     }
 
@@ -96,16 +103,6 @@ public class Deck {
         return deckName;
     }
 
-    public @Nullable SchedulerPreset getSchedulerPreset() {
-        if (schedulerPreset == null) {
-            return null;
-        }
-        if (!schedulerPreset.getIsActive()) {
-            return null;
-        }
-        return schedulerPreset;
-    }
-
     @Override
     public String toString() {
         return "Deck{" +
@@ -114,8 +111,8 @@ public class Deck {
                 ", userId=" + embeddedUser.getUserId() +
                 ", username=" + embeddedUser.getUsername().getUsername() +
                 ", isActive=" + isActive +
-                ", schedulerPresetId=" + (schedulerPreset != null ? schedulerPreset.getPresetId() : "null") +
-                ", schedulerPresetName=" + (schedulerPreset != null ? schedulerPreset.getPresetName().getName() : "null") +
+                ", schedulerPresetId=" + (schedulerPresetReference != null
+                        ? schedulerPresetReference.getPresetId() : "null") +
                 '}';
     }
 }
@@ -0,0 +1,90 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck.domain;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardCursor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.UUID;
+
+@Getter
+@Document("deck_clone_checkpoints")
+public class DeckCloneCheckpoint {
+
+    @Id
+    @NotNull
+    private final UUID targetDeckId;
+
+    @NotNull
+    @Field("reference_deck_id")
+    private final UUID referenceDeckId;
+
+    @Nullable
+    @Field("last_card_type")
+    private CardType lastCardType;
+
+    @Nullable
+    @Field("last_card_id")
+    private UUID lastCardId;
+
+    @NotNull
+    @Field("cloned_count")
+    private Long clonedCount;
+
+    @NotNull
+    @Field("is_completed")
+    private Boolean isCompleted;
+
+    public DeckCloneCheckpoint(@NotNull UUID targetDeckId, @NotNull UUID referenceDeckId) {
+        this.targetDeckId = targetDeckId;
+        this.referenceDeckId = referenceDeckId;
+        this.clonedCount = 0L;
+        this.isCompleted = false;
+    }
+
+    @PersistenceConstructor
+    public DeckCloneCheckpoint(@NotNull UUID targetDeckId, @NotNull UUID referenceDeckId,
+            @Nullable CardType lastCardType, @Nullable UUID lastCardId, @NotNull Long clonedCount,
+            @NotNull Boolean isCompleted) {
+        this.targetDeckId = targetDeckId;
+        this.referenceDeckId = referenceDeckId;
+        this.lastCardType = lastCardType;
+        this.lastCardId = lastCardId;
+        this.clonedCount = clonedCount;
+        this.isCompleted = isCompleted;
+    }
+
+    public @Nullable CardCursor getCursor() {
+        if (lastCardType == null || lastCardId == null) {
+            return null;
+        }
+        return new CardCursor(lastCardType, lastCardId);
+    }
+
+    public void advance(@Nullable CardCursor cursor, int clonedCards) {
+        clonedCount += clonedCards;
+        if (cursor == null) {
+            isCompleted = true;
+            return;
+        }
+        lastCardType = cursor.cardType();
+        lastCardId = cursor.cardId();
+    }
+
+    @Override
+    public String toString() {
+        return "DeckCloneCheckpoint{" +
+                "targetDeckId=" + targetDeckId +
+                ", referenceDeckId=" + referenceDeckId +
+                ", lastCardType=" + lastCardType +
+                ", lastCardId=" + lastCardId +
+                ", clonedCount=" + clonedCount +
+                ", isCompleted=" + isCompleted +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck.domain;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.CardType;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Document("deck_disable_checkpoints")
+public class DeckDisableCheckpoint {
+
+    @Id
+    @NotNull
+    private final UUID deckId;
+
+    @NotNull
+    @Field("user_id")
+    private final UUID userId;
+
+    @NotNull
+    @Field("card_type")
+    private CardType cardType;
+
+    @NotNull
+    @Field("disabled_count")
+    private Long disabledCount;
+
+    @NotNull
+    @Field("is_completed")
+    private Boolean isCompleted;
+
+    @Nullable
+    @Field("leased_until")
+    private LocalDateTime leasedUntil;
+
+    public DeckDisableCheckpoint(@NotNull UUID deckId, @NotNull UUID userId) {
+        this.deckId = deckId;
+        this.userId = userId;
+        this.cardType = CardType.values()[0];
+        this.disabledCount = 0L;
+        this.isCompleted = false;
+    }
+
+    @PersistenceConstructor
+    public DeckDisableCheckpoint(@NotNull UUID deckId, @NotNull UUID userId, @NotNull CardType cardType,
+            @NotNull Long disabledCount, @NotNull Boolean isCompleted, @Nullable LocalDateTime leasedUntil) {
+        this.deckId = deckId;
+        this.userId = userId;
+        this.cardType = cardType;
+        this.disabledCount = disabledCount;
+        this.isCompleted = isCompleted;
+        this.leasedUntil = leasedUntil;
+    }
+
+    public void advance(int disabledCards, boolean isCardTypeExhausted) {
+        disabledCount += disabledCards;
+        if (!isCardTypeExhausted) {
+            return;
+        }
+        if (cardType.ordinal() + 1 < CardType.values().length) {
+            cardType = CardType.values()[cardType.ordinal() + 1];
+            return;
+        }
+        isCompleted = true;
+        leasedUntil = null;
+    }
+
+    public void renewLease(@NotNull LocalDateTime leasedUntil) {
+        this.leasedUntil = leasedUntil;
+    }
+
+    @Override
+    public String toString() {
+        return "DeckDisableCheckpoint{" +
+                "deckId=" + deckId +
+                ", userId=" + userId +
+                ", cardType=" + cardType +
+                ", disabledCount=" + disabledCount +
+                ", isCompleted=" + isCompleted +
+                ", leasedUntil=" + leasedUntil +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckCloneCheckpoint;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.UUID;
+
+public interface DeckCloneCheckpointRepository extends CrudRepository<DeckCloneCheckpoint, UUID> {
+}
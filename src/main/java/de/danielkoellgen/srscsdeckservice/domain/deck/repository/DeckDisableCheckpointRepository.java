@@ -0,0 +1,9 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckDisableCheckpoint;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.UUID;
+
+public interface DeckDisableCheckpointRepository extends CrudRepository<DeckDisableCheckpoint, UUID> {
+}
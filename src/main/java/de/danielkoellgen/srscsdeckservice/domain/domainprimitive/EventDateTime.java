@@ -6,7 +6,9 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
 @EqualsAndHashCode
@@ -32,6 +34,14 @@ public class EventDateTime {
                 LocalDateTime.parse(dateTimeFormatted, DateTimeFormatter.ofPattern(pattern_RFC3339)));
     }
 
+    public static @NotNull EventDateTime makeFromEpochMillis(long epochMillis) {
+        return new EventDateTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+    }
+
+    public long getEpochMillis() {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
     public @NotNull String getFormatted() {
         return dateTime.format(DateTimeFormatter.ofPattern(pattern_RFC3339));
     }
@@ -0,0 +1,95 @@
+package de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application;
+
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPresetReference;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.repository.SchedulerPresetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves preset references of Cards and Decks to immutable {@link CompiledSchedulerPreset}s. Compiled presets
+ * are kept in a bounded LRU cache and reloaded once a reference asks for a newer version than the cached one.
+ */
+@Component
+public class SchedulerPresetRegistry {
+
+    private final SchedulerPresetRepository schedulerPresetRepository;
+
+    private final Map<UUID, CompiledSchedulerPreset> compiledPresets;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    private final Logger log = LoggerFactory.getLogger(SchedulerPresetRegistry.class);
+
+    @Autowired
+    public SchedulerPresetRegistry(SchedulerPresetRepository schedulerPresetRepository, MeterRegistry meterRegistry,
+            @Value("${scheduler.presets.cacheSize:10000}") Integer cacheSize) {
+        this.schedulerPresetRepository = schedulerPresetRepository;
+        this.compiledPresets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CompiledSchedulerPreset> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.cacheHits = Counter.builder("scheduler.presets.cache").tag("result", "hit").register(meterRegistry);
+        this.cacheMisses = Counter.builder("scheduler.presets.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    public @NotNull CompiledSchedulerPreset resolve(@NotNull SchedulerPresetReference reference) {
+        CompiledSchedulerPreset cached = findCached(reference);
+        if (cached != null) {
+            return cached;
+        }
+        cacheMisses.increment();
+        return load(reference.getPresetId());
+    }
+
+    public @Nullable CompiledSchedulerPreset findCached(@NotNull SchedulerPresetReference reference) {
+        if (reference.getPresetId().equals(SchedulerPreset.DEFAULT_PRESET_ID)) {
+            return CompiledSchedulerPreset.DEFAULT;
+        }
+        CompiledSchedulerPreset cached = compiledPresets.get(reference.getPresetId());
+        if (cached == CompiledSchedulerPreset.DEFAULT
+                || (cached != null && cached.getVersion() >= reference.getVersion())) {
+            cacheHits.increment();
+            return cached;
+        }
+        return null;
+    }
+
+    public void evict(@NotNull UUID presetId) {
+        compiledPresets.remove(presetId);
+        log.trace("Evicted Preset '{}' from the registry.", presetId);
+    }
+
+    private @NotNull CompiledSchedulerPreset load(@NotNull UUID presetId) {
+        log.trace("Loading Preset '{}' into the registry...", presetId);
+        Optional<SchedulerPreset> preset = schedulerPresetRepository.findById(presetId);
+        if (preset.isEmpty()) {
+            // Cached for any version, a missing Preset does not come back under its id.
+            log.warn("Preset '{}' does not exist. Falling back to the Default-Preset.", presetId);
+            compiledPresets.put(presetId, CompiledSchedulerPreset.DEFAULT);
+            return CompiledSchedulerPreset.DEFAULT;
+        }
+        CompiledSchedulerPreset compiledPreset = CompiledSchedulerPreset.makeFromPreset(preset.get());
+        compiledPresets.merge(presetId, compiledPreset,
+                (current, loaded) -> current.getVersion() > loaded.getVersion() ? current : loaded);
+        log.debug("Loaded Preset: {}", compiledPreset);
+        return compiledPreset;
+    }
+}
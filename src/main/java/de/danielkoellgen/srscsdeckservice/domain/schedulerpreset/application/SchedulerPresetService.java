@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -18,6 +19,7 @@ public class SchedulerPresetService {
 
     private final SchedulerPresetRepository schedulerPresetRepository;
     private final UserRepository userRepository;
+    private final SchedulerPresetRegistry schedulerPresetRegistry;
 
     @Autowired
     private Tracer tracer;
@@ -26,9 +28,10 @@ public class SchedulerPresetService {
 
     @Autowired
     public SchedulerPresetService(SchedulerPresetRepository schedulerPresetRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository, SchedulerPresetRegistry schedulerPresetRegistry) {
         this.schedulerPresetRepository = schedulerPresetRepository;
         this.userRepository = userRepository;
+        this.schedulerPresetRegistry = schedulerPresetRegistry;
     }
 
     public SchedulerPreset createPreset(@NotNull PresetName name, @NotNull UUID userId) {
@@ -69,26 +72,6 @@ public class SchedulerPresetService {
         return preset;
     }
 
-    public SchedulerPreset createTransientDefaultPreset(@NotNull UUID userId) {
-        log.trace("Creating new transient Default-Preset...");
-
-        log.trace("Fetching User by id '{}'...", userId);
-        User user = userRepository.findById(userId).orElseThrow();
-        log.debug("Fetched User: {}", user);
-
-        PresetName name;
-        try {
-            name = new PresetName("default");
-        } catch (Exception e) {
-            log.error("Failed to create PresetName 'default' even though it should be creatable. " +
-                    "Input validation corrupted.");
-            throw new RuntimeException("Failed to create transient Default-Preset. PresetName invalid.");
-        }
-        SchedulerPreset preset = new SchedulerPreset(name, user);
-        log.debug("New Transient-Preset: {}", preset);
-        return preset;
-    }
-
     public void disablePreset(@NotNull UUID presetId) {
         log.trace("Disabling Preset '{}'...", presetId);
 
@@ -98,7 +81,24 @@ public class SchedulerPresetService {
 
         preset.disablePreset();
         schedulerPresetRepository.save(preset);
+        schedulerPresetRegistry.evict(presetId);
         log.info("Preset '{}' successfully disabled.", preset.getPresetName());
         log.debug("Updated Preset: {}", preset.toStringIdent());
     }
+
+    public void disablePresetsOfUser(@NotNull UUID userId) {
+        log.trace("Disabling all Presets of User '{}'...", userId);
+
+        log.trace("Fetching Presets by user-id '{}'...", userId);
+        List<SchedulerPreset> activePresets = schedulerPresetRepository
+                .findSchedulerPresetsByEmbeddedUser_UserId(userId).stream()
+                .filter(SchedulerPreset::getIsActive)
+                .toList();
+        log.debug("{} active Presets fetched.", activePresets.size());
+
+        activePresets.forEach(SchedulerPreset::disablePreset);
+        schedulerPresetRepository.saveAll(activePresets);
+        activePresets.forEach(preset -> schedulerPresetRegistry.evict(preset.getPresetId()));
+        log.info("{} Presets of User '{}' successfully disabled.", activePresets.size(), userId);
+    }
 }
@@ -1,64 +1,56 @@
-package de.danielkoellgen.srscsdeckservice.domain.card.domain;
+package de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain;
 
-import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.annotation.PersistenceConstructor;
-import org.springframework.data.mongodb.core.mapping.Field;
-import org.springframework.data.mongodb.core.mapping.Unwrapped;
 
 import java.util.UUID;
 
+/**
+ * Immutable snapshot of a {@link SchedulerPreset} as it is used by card schedulers.
+ */
 @Getter
 @EqualsAndHashCode
-public class EmbeddedSchedulerPreset {
+public class CompiledSchedulerPreset {
+
+    public static final CompiledSchedulerPreset DEFAULT = makeDefault();
 
-    @Field("_id")
     private final @NotNull UUID presetId;
 
-    @Field("preset_name")
+    private final long version;
+
+    private final @NotNull Boolean isActive;
+
     private final @NotNull PresetName presetName;
 
-    @Field("mature_interval")
     private final @NotNull MatureInterval matureInterval;
 
-    @Field("learning_steps")
     private final @NotNull LearningSteps learningSteps;
 
-    @Field("lapse_steps")
     private final @NotNull LapseSteps lapseSteps;
 
-    @Field("minimum_interval")
     private final @NotNull MinimumInterval minimumInterval;
 
-    @Field("ease_factor")
     private final @NotNull EaseFactor easeFactor;
 
-    @Field("easy_factor_modifier")
     private final @NotNull EasyFactorModifier easyFactorModifier;
 
-    @Field("normal_factor_modifier")
     private final @NotNull NormalFactorModifier normalFactorModifier;
 
-    @Field("hard_factor_modifier")
     private final @NotNull HardFactorModifier hardFactorModifier;
 
-    @Field("lapse_factor_modifier")
     private final @NotNull LapseFactorModifier lapseFactorModifier;
 
-    @Field("easy_interval_modifier")
     private final @NotNull EasyIntervalModifier easyIntervalModifier;
 
-    @Field("hard_interval_modifier")
     private final @NotNull HardIntervalModifier hardIntervalModifier;
 
-    @Field("lapse_interval_modifier")
     private final @NotNull LapseIntervalModifier lapseIntervalModifier;
 
-    @PersistenceConstructor
-    public EmbeddedSchedulerPreset(
+    private CompiledSchedulerPreset(
             @NotNull UUID presetId,
+            long version,
+            @NotNull Boolean isActive,
             @NotNull PresetName presetName,
             @NotNull MatureInterval matureInterval,
             @NotNull LearningSteps learningSteps,
@@ -74,6 +66,8 @@ public class EmbeddedSchedulerPreset {
             @NotNull LapseIntervalModifier lapseIntervalModifier
     ) {
         this.presetId = presetId;
+        this.version = version;
+        this.isActive = isActive;
         this.presetName = presetName;
         this.matureInterval = matureInterval;
         this.learningSteps = learningSteps;
@@ -89,27 +83,62 @@ public class EmbeddedSchedulerPreset {
         this.lapseIntervalModifier = lapseIntervalModifier;
     }
 
-    public EmbeddedSchedulerPreset(@NotNull SchedulerPreset schedulerPreset) {
-        this.presetId = schedulerPreset.getPresetId();
-        this.presetName = schedulerPreset.getPresetName();
-        this.matureInterval = schedulerPreset.getMatureInterval();
-        this.learningSteps = schedulerPreset.getLearningSteps();
-        this.lapseSteps = schedulerPreset.getLapseSteps();
-        this.minimumInterval = schedulerPreset.getMinimumInterval();
-        this.easeFactor = schedulerPreset.getEaseFactor();
-        this.easyFactorModifier = schedulerPreset.getEasyFactorModifier();
-        this.normalFactorModifier = schedulerPreset.getNormalFactorModifier();
-        this.hardFactorModifier = schedulerPreset.getHardFactorModifier();
-        this.lapseFactorModifier = schedulerPreset.getLapseFactorModifier();
-        this.easyIntervalModifier = schedulerPreset.getEasyIntervalModifier();
-        this.hardIntervalModifier = schedulerPreset.getHardIntervalModifier();
-        this.lapseIntervalModifier = schedulerPreset.getLapseIntervalModifier();
+    public static @NotNull CompiledSchedulerPreset makeFromPreset(@NotNull SchedulerPreset schedulerPreset) {
+        return new CompiledSchedulerPreset(
+                schedulerPreset.getPresetId(),
+                schedulerPreset.getVersion(),
+                schedulerPreset.getIsActive(),
+                schedulerPreset.getPresetName(),
+                schedulerPreset.getMatureInterval(),
+                schedulerPreset.getLearningSteps(),
+                schedulerPreset.getLapseSteps(),
+                schedulerPreset.getMinimumInterval(),
+                schedulerPreset.getEaseFactor(),
+                schedulerPreset.getEasyFactorModifier(),
+                schedulerPreset.getNormalFactorModifier(),
+                schedulerPreset.getHardFactorModifier(),
+                schedulerPreset.getLapseFactorModifier(),
+                schedulerPreset.getEasyIntervalModifier(),
+                schedulerPreset.getHardIntervalModifier(),
+                schedulerPreset.getLapseIntervalModifier());
+    }
+
+    private static @NotNull CompiledSchedulerPreset makeDefault() {
+        PresetName name;
+        try {
+            name = new PresetName("default");
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create PresetName 'default'. Input validation corrupted.", e);
+        }
+        return new CompiledSchedulerPreset(
+                SchedulerPreset.DEFAULT_PRESET_ID,
+                0,
+                true,
+                name,
+                MatureInterval.makeFromDefault(),
+                LearningSteps.makeDefaultSteps(),
+                LapseSteps.makeDefaultSteps(),
+                MinimumInterval.makeFromDefault(),
+                EaseFactor.makeFromDefault(),
+                EasyFactorModifier.makeFromDefault(),
+                NormalFactorModifier.makeFromDefault(),
+                HardFactorModifier.makeFromDefault(),
+                LapseFactorModifier.makeFromDefault(),
+                EasyIntervalModifier.makeFromDefault(),
+                HardIntervalModifier.makeFromDefault(),
+                LapseIntervalModifier.makeFromDefault());
+    }
+
+    public @NotNull SchedulerPresetReference makeReference() {
+        return new SchedulerPresetReference(presetId, version);
     }
 
     @Override
     public String toString() {
-        return "EmbeddedSchedulerPreset{" +
+        return "CompiledSchedulerPreset{" +
                 "presetId=" + presetId +
+                ", version=" + version +
+                ", isActive=" + isActive +
                 ", presetName=" + presetName +
                 ", matureInterval=" + matureInterval +
                 ", learningSteps=" + learningSteps +
@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.DocumentReference;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -18,8 +19,11 @@ import java.util.UUID;
 
 @Getter
 @Document("scheduler_presets")
+@CompoundIndex(name = "user_id", def = "{'user.user_id': 1}")
 public class SchedulerPreset {
 
+    public static final UUID DEFAULT_PRESET_ID = new UUID(0L, 0L);
+
     @Id
     @NotNull
     private final UUID presetId;
@@ -36,6 +40,10 @@ public class SchedulerPreset {
     @Field("is_active")
     private Boolean isActive;
 
+    @Nullable
+    @Field("version")
+    private Long version;
+
     @Setter
     @NotNull
     @Field("preset_name")
@@ -105,8 +113,13 @@ public class SchedulerPreset {
     @Transient
     private final Logger log = LoggerFactory.getLogger(SchedulerPreset.class);
 
+    public long getVersion() {
+        return version != null ? version : 0L;
+    }
+
     public void disablePreset() {
         isActive = false;
+        version = getVersion() + 1;
         log.debug("SchedulerPreset.isActive has been set to '{}'.", isActive);
     }
 
@@ -213,6 +226,7 @@ public class SchedulerPreset {
                 ", user=" + user +
                 ", embeddedUser=" + embeddedUser +
                 ", isActive=" + isActive +
+                ", version=" + version +
                 ", presetName=" + presetName.getName() +
                 ", matureInterval=" + matureInterval +
                 ", learningSteps=" + learningSteps +
@@ -0,0 +1,45 @@
+package de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain;
+
+import lombok.EqualsAndHashCode;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.UUID;
+
+@EqualsAndHashCode
+public class SchedulerPresetReference {
+
+    @Field("_id")
+    private final @NotNull UUID presetId;
+
+    @Field("version")
+    private final @Nullable Long version;
+
+    @PersistenceConstructor
+    public SchedulerPresetReference(@NotNull UUID presetId, @Nullable Long version) {
+        this.presetId = presetId;
+        this.version = version;
+    }
+
+    public static @NotNull SchedulerPresetReference makeFromPreset(@NotNull SchedulerPreset schedulerPreset) {
+        return new SchedulerPresetReference(schedulerPreset.getPresetId(), schedulerPreset.getVersion());
+    }
+
+    public @NotNull UUID getPresetId() {
+        return presetId;
+    }
+
+    public long getVersion() {
+        return version != null ? version : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerPresetReference{" +
+                "presetId=" + presetId +
+                ", version=" + version +
+                '}';
+    }
+}
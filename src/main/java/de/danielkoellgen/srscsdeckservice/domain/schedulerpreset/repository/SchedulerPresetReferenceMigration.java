@@ -0,0 +1,72 @@
+package de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.BasicUpdate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Shrinks Cards and Decks written before presets were stored by reference. Embedded presets already carry their
+ * '_id', so only the copied preset values are removed and the remainder is read as a reference.
+ * <p>
+ * Removing the values cannot be undone and breaks instances still reading embedded presets. The migration is
+ * therefore disabled by default and meant to be run once, by a single instance, after every instance has been
+ * rolled out.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduler.presets.migrateReferences", havingValue = "true")
+public class SchedulerPresetReferenceMigration {
+
+    private static final List<String> PRESET_VALUE_FIELDS = List.of(
+            "preset_name", "mature_interval", "learning_steps", "lapse_steps", "minimum_interval", "ease_factor",
+            "easy_factor_modifier", "normal_factor_modifier", "hard_factor_modifier", "lapse_factor_modifier",
+            "easy_interval_modifier", "hard_interval_modifier", "lapse_interval_modifier");
+
+    private static final List<String> CARD_COLLECTIONS = List.of("default_cards", "typing_cards");
+    private static final String CARD_PRESET_FIELD = "scheduler.scheduler_preset";
+
+    private static final String DECK_COLLECTION = "decks";
+    private static final String DECK_PRESET_FIELD = "scheduler_preset_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final Logger log = LoggerFactory.getLogger(SchedulerPresetReferenceMigration.class);
+
+    @Autowired
+    public SchedulerPresetReferenceMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateEmbeddedPresets() {
+        log.trace("Migrating embedded Presets to Preset-References...");
+        CARD_COLLECTIONS.forEach(collection -> stripPresetValues(collection, CARD_PRESET_FIELD, List.of()));
+        stripPresetValues(DECK_COLLECTION, DECK_PRESET_FIELD, List.of("user", "is_active"));
+    }
+
+    private void stripPresetValues(@NotNull String collection, @NotNull String presetField,
+            @NotNull List<String> additionalFields) {
+        Document unset = new Document();
+        PRESET_VALUE_FIELDS.forEach(field -> unset.append(presetField + "." + field, ""));
+        additionalFields.forEach(field -> unset.append(presetField + "." + field, ""));
+        UpdateResult result = mongoTemplate.updateMulti(
+                new BasicQuery(new Document(presetField + ".preset_name", new Document("$exists", true))),
+                new BasicUpdate(new Document("$unset", unset)),
+                collection);
+        if (result.getModifiedCount() > 0) {
+            log.info("{} embedded Presets in '{}' migrated to Preset-References.", result.getModifiedCount(),
+                    collection);
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package de.danielkoellgen.srscsdeckservice.domain.user.application;
 
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetService;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
 import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserUpsert;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -16,12 +20,17 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final DeckService deckService;
+    private final SchedulerPresetService schedulerPresetService;
 
     private final Logger log = LoggerFactory.getLogger(UserService.class);
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, DeckService deckService,
+            SchedulerPresetService schedulerPresetService) {
         this.userRepository = userRepository;
+        this.deckService = deckService;
+        this.schedulerPresetService = schedulerPresetService;
     }
 
     public @NotNull User addNewExternallyCreatedUser(UUID userId, Username username) {
@@ -45,5 +54,24 @@ public class UserService {
         userRepository.save(user);
         log.info("User '{}' successfully disabled.", user.getUsername());
         log.debug("Disabled User: {}", user);
+
+        cascadeDisabledUser(userId);
+    }
+
+    public void applyExternalUserChanges(@NotNull Collection<UserUpsert> upserts) {
+        log.trace("Applying {} externally changed Users...", upserts.size());
+
+        int applied = userRepository.bulkUpsert(upserts);
+        log.info("{} of {} externally changed Users applied.", applied, upserts.size());
+
+        upserts.stream()
+                .filter(upsert -> !upsert.isActive())
+                .forEach(upsert -> cascadeDisabledUser(upsert.userId()));
+    }
+
+    private void cascadeDisabledUser(@NotNull UUID userId) {
+        log.trace("Cascading disabled User '{}' to Decks and Presets...", userId);
+        deckService.disableDecksOfUser(userId);
+        schedulerPresetService.disablePresetsOfUser(userId);
     }
 }
@@ -5,6 +5,6 @@ import org.springframework.data.repository.CrudRepository;
 
 import java.util.UUID;
 
-public interface UserRepository extends CrudRepository<User, UUID> {
-    
+public interface UserRepository extends CrudRepository<User, UUID>, UserRepositoryCustom {
+
 }
@@ -0,0 +1,10 @@
+package de.danielkoellgen.srscsdeckservice.domain.user.repository;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+public interface UserRepositoryCustom {
+
+    int bulkUpsert(@NotNull Collection<UserUpsert> upserts);
+}
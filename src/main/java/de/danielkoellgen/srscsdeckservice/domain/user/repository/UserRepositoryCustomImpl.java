@@ -0,0 +1,42 @@
+package de.danielkoellgen.srscsdeckservice.domain.user.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public UserRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int bulkUpsert(@NotNull Collection<UserUpsert> upserts) {
+        if (upserts.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        for (UserUpsert upsert : upserts) {
+            Query query = Query.query(Criteria.where("_id").is(upsert.userId()));
+            Update update = new Update().set("is_active", upsert.isActive());
+            if (upsert.username() != null) {
+                bulkOperations.upsert(query, update.set("username", upsert.username().getUsername()));
+            } else {
+                bulkOperations.updateOne(query, update);
+            }
+        }
+        BulkWriteResult result = bulkOperations.execute();
+        return result.getMatchedCount() + result.getUpserts().size();
+    }
+}
@@ -0,0 +1,29 @@
+package de.danielkoellgen.srscsdeckservice.domain.user.repository;
+
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+public record UserUpsert(
+
+    @NotNull UUID userId,
+
+    @Nullable Username username,
+
+    @NotNull Boolean isActive
+
+) {
+    public static @NotNull UserUpsert makeCreated(@NotNull UUID userId, @NotNull Username username) {
+        return new UserUpsert(userId, username, true);
+    }
+
+    public static @NotNull UserUpsert makeDisabled(@NotNull UUID userId) {
+        return new UserUpsert(userId, null, false);
+    }
+
+    public @NotNull UserUpsert mergeWith(@NotNull UserUpsert later) {
+        return new UserUpsert(userId, later.username != null ? later.username : username, later.isActive);
+    }
+}
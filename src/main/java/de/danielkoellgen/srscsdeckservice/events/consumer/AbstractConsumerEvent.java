@@ -1,12 +1,15 @@
 package de.danielkoellgen.srscsdeckservice.events.consumer;
 
 import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventEnvelope;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 abstract public class AbstractConsumerEvent implements ConsumerEvent {
@@ -25,24 +28,28 @@ abstract public class AbstractConsumerEvent implements ConsumerEvent {
 
     protected final @NotNull String topic;
 
-    public AbstractConsumerEvent(@NotNull ConsumerRecord<String, String> event) {
-        this.eventId = UUID.fromString(getHeaderValue(event, "eventId"));
-        this.transactionId = getHeaderValue(event, "transactionId");
+    protected final @NotNull EventContentType contentType;
+
+    public AbstractConsumerEvent(@NotNull ConsumerRecord<String, byte[]> event) {
+        Headers headers = event.headers();
+        this.contentType = EventEnvelope.readContentType(headers);
+        this.eventId = Objects.requireNonNull(EventEnvelope.readUuid(headers, "eventId", contentType));
+        this.transactionId = EventEnvelope.readString(headers, "transactionId");
         try {
-            this.correlationId = UUID.fromString(getHeaderValue(event, "correlationId"));
+            this.correlationId = EventEnvelope.readUuid(headers, "correlationId", contentType);
         } catch (Exception e) {
             this.correlationId = null;
         }
-        this.eventName = getHeaderValue(event, "type");
-        this.occurredAt = EventDateTime.makeFromFormattedString(getHeaderValue(event, "timestamp"));
+        this.eventName = EventEnvelope.readString(headers, "type");
+        this.occurredAt = EventEnvelope.readTimestamp(headers, "timestamp", contentType);
         this.receivedAt = new EventDateTime(LocalDateTime.now());
         this.topic = event.topic();
     }
 
     abstract public void execute();
 
-    public static String getHeaderValue(ConsumerRecord<String, String> event, String key) {
-        return new String(event.headers().lastHeader(key).value(), StandardCharsets.US_ASCII);
+    public static String getHeaderValue(ConsumerRecord<String, byte[]> event, String key) {
+        return EventEnvelope.readString(event.headers(), key);
     }
 
     @Override
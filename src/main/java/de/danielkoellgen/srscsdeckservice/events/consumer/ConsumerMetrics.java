@@ -0,0 +1,48 @@
+package de.danielkoellgen.srscsdeckservice.events.consumer;
+
+import de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class ConsumerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ConsumerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordCompletion(@NotNull ConsumerEvent event, boolean succeeded) {
+        LocalDateTime completedAt = LocalDateTime.now();
+        String topic = RetryTopics.getOriginalTopic(event.getTopic());
+        String result = succeeded ? "success" : "failure";
+        Timer.builder("kafka.consumer.processing")
+                .description("Time from receiving a record until it was applied.")
+                .tag("topic", topic)
+                .tag("type", event.getEventName())
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nonNegative(Duration.between(event.getReceivedAt().getDateTime(), completedAt)));
+        Timer.builder("kafka.consumer.freshness")
+                .description("Time from the event occurring at its producer until it was applied.")
+                .tag("topic", topic)
+                .tag("type", event.getEventName())
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nonNegative(Duration.between(event.getOccurredAt().getDateTime(), completedAt)));
+    }
+
+    private static Duration nonNegative(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+}
@@ -0,0 +1,64 @@
+package de.danielkoellgen.srscsdeckservice.events.consumer.backpressure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pauses every Kafka listener while the Mongo latency of consumers is above the pause threshold. Paused consumers
+ * issue no commands to measure, so listeners are resumed after a fixed pause with a fresh average and are paused
+ * again only if the latency stays high.
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.backpressure.enabled", havingValue = "true", matchIfMissing = true)
+public class ConsumerBackpressureController {
+
+    private final MongoLatencyTracker mongoLatencyTracker;
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+
+    private final Double pauseLatencyMs;
+    private final Long pauseMs;
+
+    private volatile boolean paused = false;
+    private long pausedAt = 0;
+
+    private final Logger log = LoggerFactory.getLogger(ConsumerBackpressureController.class);
+
+    @Autowired
+    public ConsumerBackpressureController(MongoLatencyTracker mongoLatencyTracker,
+            KafkaListenerEndpointRegistry listenerEndpointRegistry, MeterRegistry meterRegistry,
+            @Value("${kafka.consumer.backpressure.pauseLatencyMs:250}") Double pauseLatencyMs,
+            @Value("${kafka.consumer.backpressure.pauseMs:5000}") Long pauseMs) {
+        this.mongoLatencyTracker = mongoLatencyTracker;
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.pauseLatencyMs = pauseLatencyMs;
+        this.pauseMs = pauseMs;
+        Gauge.builder("kafka.consumer.backpressure.paused", this, controller -> controller.paused ? 1 : 0)
+                .description("Whether listeners are paused because Mongo is slow.")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.consumer.backpressure.intervalMs:1000}")
+    public void adjust() {
+        double latency = mongoLatencyTracker.getAverageMillis();
+        if (!paused && latency > pauseLatencyMs) {
+            log.warn("Mongo latency at {} ms exceeds {} ms. Pausing Kafka listeners for {} ms...",
+                    latency, pauseLatencyMs, pauseMs);
+            listenerEndpointRegistry.getListenerContainers().forEach(container -> container.pause());
+            pausedAt = System.currentTimeMillis();
+            paused = true;
+        } else if (paused && System.currentTimeMillis() - pausedAt >= pauseMs) {
+            log.info("Resuming Kafka listeners after {} ms. Mongo latency was at {} ms.", pauseMs, latency);
+            mongoLatencyTracker.reset();
+            listenerEndpointRegistry.getListenerContainers().forEach(container -> container.resume());
+            paused = false;
+        }
+    }
+}
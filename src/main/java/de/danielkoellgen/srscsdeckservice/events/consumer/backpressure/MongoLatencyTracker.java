@@ -0,0 +1,104 @@
+package de.danielkoellgen.srscsdeckservice.events.consumer.backpressure;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps an exponentially weighted moving average of the latencies of the reads and writes consumers issue. Only
+ * commands started on a thread inside a {@link ConsumerScope} are tracked, so background polls of the outbox relay,
+ * the cascade and the archiver do not move the average. The synchronous driver notifies listeners on the thread that
+ * issued the command.
+ */
+@Component
+public class MongoLatencyTracker implements CommandListener {
+
+    private static final double ALPHA = 0.1;
+
+    private static final Set<String> TRACKED_COMMANDS = Set.of(
+            "insert", "update", "delete", "find", "findAndModify", "aggregate");
+
+    private static final ThreadLocal<Boolean> CONSUMER_ISSUED = ThreadLocal.withInitial(() -> false);
+
+    private final Set<Integer> trackedRequestIds = ConcurrentHashMap.newKeySet();
+
+    private double averageMillis = 0;
+
+    @Autowired
+    public MongoLatencyTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("mongodb.command.latency.ewma", this, MongoLatencyTracker::getAverageMillis)
+                .description("Exponentially weighted moving average of the Mongo command latency of consumers.")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Attributes the Mongo commands issued on the current thread to a consumer until the returned scope is closed.
+     */
+    public static @NotNull ConsumerScope openConsumerScope() {
+        boolean wasConsumerIssued = CONSUMER_ISSUED.get();
+        CONSUMER_ISSUED.set(true);
+        return new ConsumerScope(wasConsumerIssued);
+    }
+
+    @Override
+    public void commandStarted(@NotNull CommandStartedEvent event) {
+        if (isTracked(event)) {
+            trackedRequestIds.add(event.getRequestId());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(@NotNull CommandSucceededEvent event) {
+        if (trackedRequestIds.remove(event.getRequestId())) {
+            record(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+        }
+    }
+
+    @Override
+    public void commandFailed(@NotNull CommandFailedEvent event) {
+        if (trackedRequestIds.remove(event.getRequestId())) {
+            record(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+        }
+    }
+
+    public synchronized double getAverageMillis() {
+        return averageMillis;
+    }
+
+    public synchronized void reset() {
+        averageMillis = 0;
+    }
+
+    synchronized void record(double elapsedMillis) {
+        averageMillis = averageMillis + ALPHA * (elapsedMillis - averageMillis);
+    }
+
+    private static boolean isTracked(@NotNull CommandStartedEvent event) {
+        return CONSUMER_ISSUED.get() && TRACKED_COMMANDS.contains(event.getCommandName());
+    }
+
+    public static final class ConsumerScope implements AutoCloseable {
+
+        private final boolean wasConsumerIssued;
+
+        private ConsumerScope(boolean wasConsumerIssued) {
+            this.wasConsumerIssued = wasConsumerIssued;
+        }
+
+        @Override
+        public void close() {
+            CONSUMER_ISSUED.set(wasConsumerIssued);
+        }
+    }
+}
@@ -2,8 +2,16 @@ package de.danielkoellgen.srscsdeckservice.events.consumer.user;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserUpsert;
+import de.danielkoellgen.srscsdeckservice.events.consumer.AbstractConsumerEvent;
+import de.danielkoellgen.srscsdeckservice.events.consumer.ConsumerMetrics;
+import de.danielkoellgen.srscsdeckservice.events.consumer.backpressure.MongoLatencyTracker;
+import de.danielkoellgen.srscsdeckservice.events.idempotency.EventDeduplicator;
+import de.danielkoellgen.srscsdeckservice.events.retry.FailedRecordRecoverer;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventEnvelope;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,12 +20,21 @@ import org.springframework.cloud.sleuth.Tracer;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class KafkaUserEventConsumer {
 
     private final UserService userService;
+    private final EventDeduplicator eventDeduplicator;
+    private final FailedRecordRecoverer failedRecordRecoverer;
+    private final ConsumerMetrics consumerMetrics;
 
     @Autowired
     private Tracer tracer;
@@ -25,12 +42,58 @@ public class KafkaUserEventConsumer {
     private final Logger log = LoggerFactory.getLogger(KafkaUserEventConsumer.class);
 
     @Autowired
-    public KafkaUserEventConsumer(UserService userService) {
+    public KafkaUserEventConsumer(UserService userService, EventDeduplicator eventDeduplicator,
+            FailedRecordRecoverer failedRecordRecoverer, ConsumerMetrics consumerMetrics) {
         this.userService = userService;
+        this.eventDeduplicator = eventDeduplicator;
+        this.failedRecordRecoverer = failedRecordRecoverer;
+        this.consumerMetrics = consumerMetrics;
     }
 
-    @KafkaListener(topics = {"cdc.users.0"}, id = "${kafka.groupId}")
-    public void receive(@NotNull ConsumerRecord<String, String> event)
+    @KafkaListener(topics = {"cdc.users.0"}, id = "${kafka.groupId}",
+            containerFactory = "batchListenerContainerFactory",
+            properties = "max.poll.records=${kafka.consumer.users.maxPollRecords:2000}")
+    public void receiveBatch(@NotNull List<ConsumerRecord<String, byte[]>> events) {
+        Span newSpan = tracer.nextSpan().name("event-user-batch");
+        try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start());
+                MongoLatencyTracker.ConsumerScope cs = MongoLatencyTracker.openConsumerScope()) {
+            List<AbstractConsumerEvent> parsedEvents = events.stream()
+                    .map(this::parseEvent)
+                    .filter(Objects::nonNull)
+                    .toList();
+            Set<UUID> processedEventIds = eventDeduplicator.findProcessed(parsedEvents.stream()
+                    .map(AbstractConsumerEvent::getEventId)
+                    .toList());
+
+            Map<UUID, UserUpsert> upserts = new LinkedHashMap<>();
+            List<AbstractConsumerEvent> appliedEvents = new ArrayList<>();
+            for (AbstractConsumerEvent event : parsedEvents) {
+                if (processedEventIds.contains(event.getEventId())) {
+                    continue;
+                }
+                UserUpsert upsert = makeUpsert(event);
+                upserts.merge(upsert.userId(), upsert, UserUpsert::mergeWith);
+                appliedEvents.add(event);
+            }
+            log.info("Received {} user-events affecting {} Users. {} were already processed.",
+                    events.size(), upserts.size(), parsedEvents.size() - appliedEvents.size());
+            try {
+                userService.applyExternalUserChanges(upserts.values());
+            } catch (RuntimeException e) {
+                appliedEvents.forEach(event -> consumerMetrics.recordCompletion(event, false));
+                throw e;
+            }
+            eventDeduplicator.markAllProcessed(appliedEvents.stream()
+                    .map(AbstractConsumerEvent::getEventId)
+                    .toList(), "cdc.users.0");
+            appliedEvents.forEach(event -> consumerMetrics.recordCompletion(event, true));
+            log.trace("Event batch processing completed.");
+        } finally {
+            newSpan.end();
+        }
+    }
+
+    public void receive(@NotNull ConsumerRecord<String, byte[]> event)
             throws JsonProcessingException {
         String eventName = getHeaderValue(event, "type");
         switch (eventName) {
@@ -40,33 +103,75 @@ public class KafkaUserEventConsumer {
         }
     }
 
-    public void processUserCreatedEvent(@NotNull ConsumerRecord<String, String> event)
+    public void processUserCreatedEvent(@NotNull ConsumerRecord<String, byte[]> event)
             throws JsonProcessingException {
         Span newSpan = tracer.nextSpan().name("event-user-created");
         try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start())) {
             UserCreated userCreated = new UserCreated(userService, event);
             log.info("Received 'UserCreatedEvent'... {}", userCreated);
-            userCreated.execute();
+            executeOnce(userCreated);
             log.trace("Event processing completed.");
         } finally {
             newSpan.end();
         }
     }
 
-    public void processUserDisabledEvent(@NotNull ConsumerRecord<String, String> event)
+    public void processUserDisabledEvent(@NotNull ConsumerRecord<String, byte[]> event)
             throws JsonProcessingException {
         Span newSpan = tracer.nextSpan().name("event-user-disabled");
         try (Tracer.SpanInScope ws = this.tracer.withSpan(newSpan.start())) {
             UserDisabled userDisabled = new UserDisabled(userService, event);
             log.info("Received 'UserDisabledEvent'... {}", userDisabled);
-            userDisabled.execute();
+            executeOnce(userDisabled);
             log.trace("Event processing completed.");
         } finally {
             newSpan.end();
         }
     }
 
-    public static String getHeaderValue(ConsumerRecord<String, String> event, String key) {
-        return new String(event.headers().lastHeader(key).value(), StandardCharsets.US_ASCII);
+    private void executeOnce(@NotNull AbstractConsumerEvent event) {
+        try (MongoLatencyTracker.ConsumerScope ignored = MongoLatencyTracker.openConsumerScope()) {
+            if (eventDeduplicator.isProcessed(event.getEventId())) {
+                log.info("Skipping already processed '{}'-event '{}'.", event.getEventName(), event.getEventId());
+                return;
+            }
+            try {
+                event.execute();
+            } catch (RuntimeException e) {
+                consumerMetrics.recordCompletion(event, false);
+                throw e;
+            }
+            eventDeduplicator.markProcessed(event.getEventId(), event.getTopic());
+            consumerMetrics.recordCompletion(event, true);
+        }
+    }
+
+    private @Nullable AbstractConsumerEvent parseEvent(@NotNull ConsumerRecord<String, byte[]> event) {
+        try {
+            String eventName = getHeaderValue(event, "type");
+            return switch (eventName) {
+                case "user-created"     -> new UserCreated(userService, event);
+                case "user-disabled"    -> new UserDisabled(userService, event);
+                default -> {
+                    log.warn("Received an event on 'cdc.users.0' of unknown type '{}'.", eventName);
+                    yield null;
+                }
+            };
+        } catch (Exception e) {
+            failedRecordRecoverer.sendToDeadLetter(event, e);
+            return null;
+        }
+    }
+
+    private static @NotNull UserUpsert makeUpsert(@NotNull AbstractConsumerEvent event) {
+        return switch (event) {
+            case UserCreated userCreated    -> userCreated.makeUpsert();
+            case UserDisabled userDisabled  -> userDisabled.makeUpsert();
+            default -> throw new IllegalArgumentException("Unsupported user-event '" + event.getEventName() + "'.");
+        };
+    }
+
+    public static String getHeaderValue(ConsumerRecord<String, byte[]> event, String key) {
+        return EventEnvelope.readString(event.headers(), key);
     }
 }
@@ -1,10 +1,11 @@
 package de.danielkoellgen.srscsdeckservice.events.consumer.user;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserUpsert;
 import de.danielkoellgen.srscsdeckservice.events.consumer.AbstractConsumerEvent;
 import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserCreatedDto;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import lombok.Getter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.jetbrains.annotations.NotNull;
@@ -17,10 +18,10 @@ public class UserCreated extends AbstractConsumerEvent {
     private final @NotNull UserCreatedDto payload;
 
     public UserCreated(@NotNull UserService userService,
-            @NotNull ConsumerRecord<String, String> event) throws JsonProcessingException {
+            @NotNull ConsumerRecord<String, byte[]> event) throws JsonProcessingException {
         super(event);
         this.userService = userService;
-        this.payload = UserCreatedDto.makeFromSerialization(event.value());
+        this.payload = UserCreatedDto.makeFromSerialization(event.value(), contentType);
     }
 
     @Override
@@ -28,14 +29,13 @@ public class UserCreated extends AbstractConsumerEvent {
         userService.addNewExternallyCreatedUser(payload.userId(), payload.getMappedUsername());
     }
 
+    public @NotNull UserUpsert makeUpsert() {
+        return UserUpsert.makeCreated(payload.userId(), payload.getMappedUsername());
+    }
+
     @Override
     public @NotNull String getSerializedContent() {
-        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (Exception e) {
-            throw new RuntimeException("ObjectMapper conversion failed.");
-        }
+        return EventSerializer.serialize(payload);
     }
 
     @Override
@@ -1,11 +1,12 @@
 package de.danielkoellgen.srscsdeckservice.events.consumer.user;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserUpsert;
 import de.danielkoellgen.srscsdeckservice.events.consumer.AbstractConsumerEvent;
 import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserCreatedDto;
 import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserDisabledDto;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import lombok.Getter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.jetbrains.annotations.NotNull;
@@ -18,10 +19,10 @@ public class UserDisabled extends AbstractConsumerEvent {
     private final @NotNull UserDisabledDto payload;
 
     public UserDisabled(@NotNull UserService userService,
-            @NotNull ConsumerRecord<String, String> event) throws JsonProcessingException {
+            @NotNull ConsumerRecord<String, byte[]> event) throws JsonProcessingException {
         super(event);
         this.userService = userService;
-        this.payload = UserDisabledDto.makeFromSerialization(event.value());
+        this.payload = UserDisabledDto.makeFromSerialization(event.value(), contentType);
     }
 
     @Override
@@ -29,14 +30,13 @@ public class UserDisabled extends AbstractConsumerEvent {
         userService.disableExternallyDisabledUser(payload.userId());
     }
 
+    public @NotNull UserUpsert makeUpsert() {
+        return UserUpsert.makeDisabled(payload.userId());
+    }
+
     @Override
     public @NotNull String getSerializedContent() {
-        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (Exception e) {
-            throw new RuntimeException("ObjectMapper conversion failed.");
-        }
+        return EventSerializer.serialize(payload);
     }
 
     @Override
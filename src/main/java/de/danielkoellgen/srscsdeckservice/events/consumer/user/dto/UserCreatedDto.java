@@ -2,8 +2,9 @@ package de.danielkoellgen.srscsdeckservice.events.consumer.user.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
@@ -15,10 +16,9 @@ public record UserCreatedDto(
     @NotNull String username
 
 ) {
-    public static @NotNull UserCreatedDto makeFromSerialization(@NotNull String serialized)
-            throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        return mapper.readValue(serialized, UserCreatedDto.class);
+    public static @NotNull UserCreatedDto makeFromSerialization(@NotNull byte[] serialized,
+            @NotNull EventContentType contentType) throws JsonProcessingException {
+        return EventSerializer.deserialize(serialized, contentType, UserCreatedDto.class);
     }
 
     @JsonIgnore
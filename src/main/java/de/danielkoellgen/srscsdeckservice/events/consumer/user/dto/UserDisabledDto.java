@@ -1,19 +1,19 @@
 package de.danielkoellgen.srscsdeckservice.events.consumer.user.dto;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 
 public record UserDisabledDto(
 
     @NotNull UUID userId
 
 ) {
-    public static @NotNull UserDisabledDto makeFromSerialization(@NotNull String serialized)
-            throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        return mapper.readValue(serialized, UserDisabledDto.class);
+    public static @NotNull UserDisabledDto makeFromSerialization(@NotNull byte[] serialized,
+            @NotNull EventContentType contentType) throws JsonProcessingException {
+        return EventSerializer.deserialize(serialized, contentType, UserDisabledDto.class);
     }
 }
@@ -0,0 +1,130 @@
+package de.danielkoellgen.srscsdeckservice.events.deadletter;
+
+import de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics;
+import lombok.Getter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.bson.types.ObjectId;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Document("dead_letters")
+public class DeadLetter {
+
+    /**
+     * Topics this service runs retry tiers for. Letters of other topics, e.g. change events of other services, are
+     * not replayed, as publishing them again would reach every consumer of that topic.
+     */
+    private static final Set<String> REPLAYABLE_TOPICS = Set.of("cmd.decks-cards.0");
+
+    @Id
+    @Nullable
+    private ObjectId id;
+
+    @NotNull
+    @Field("original_topic")
+    private final String originalTopic;
+
+    @Nullable
+    @Field("key")
+    private final String key;
+
+    @NotNull
+    @Field("headers")
+    private final Map<String, byte[]> headers;
+
+    @Nullable
+    @Field("value")
+    private final byte[] value;
+
+    @Nullable
+    @Field("exception_class")
+    private final String exceptionClass;
+
+    @Nullable
+    @Field("exception_message")
+    private final String exceptionMessage;
+
+    @NotNull
+    @Field("failed_at")
+    private final LocalDateTime failedAt;
+
+    @PersistenceConstructor
+    public DeadLetter(@Nullable ObjectId id, @NotNull String originalTopic, @Nullable String key,
+            @NotNull Map<String, byte[]> headers, @Nullable byte[] value, @Nullable String exceptionClass,
+            @Nullable String exceptionMessage, @NotNull LocalDateTime failedAt) {
+        this.id = id;
+        this.originalTopic = originalTopic;
+        this.key = key;
+        this.headers = headers;
+        this.value = value;
+        this.exceptionClass = exceptionClass;
+        this.exceptionMessage = exceptionMessage;
+        this.failedAt = failedAt;
+    }
+
+    public static @NotNull DeadLetter makeFromRecord(@NotNull ConsumerRecord<String, byte[]> record) {
+        Map<String, byte[]> headers = new LinkedHashMap<>();
+        for (Header header : record.headers()) {
+            if (!isFailureHeader(header.key())) {
+                headers.put(header.key(), header.value());
+            }
+        }
+        return new DeadLetter(null, RetryTopics.getOriginalTopic(record.topic()), record.key(), headers,
+                record.value(), getLastHeaderValue(record, KafkaHeaders.DLT_EXCEPTION_FQCN),
+                getLastHeaderValue(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE), LocalDateTime.now());
+    }
+
+    public boolean isReplayable() {
+        return REPLAYABLE_TOPICS.contains(originalTopic);
+    }
+
+    /**
+     * Makes a record for the first retry tier of the original topic, which only this service consumes.
+     */
+    public @NotNull ProducerRecord<String, byte[]> makeReplayRecord() {
+        if (!isReplayable()) {
+            throw new IllegalStateException("Dead letters of '" + originalTopic + "' cannot be replayed.");
+        }
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(
+                RetryTopics.getRetryTopics(originalTopic).get(0), key, value);
+        headers.forEach((headerKey, headerValue) -> record.headers().add(new RecordHeader(headerKey, headerValue)));
+        return record;
+    }
+
+    private static boolean isFailureHeader(@NotNull String headerKey) {
+        return headerKey.startsWith(KafkaHeaders.PREFIX + "dlt-") || headerKey.equals(RetryTopics.RETRY_DUE_AT_HEADER);
+    }
+
+    private static @Nullable String getLastHeaderValue(@NotNull ConsumerRecord<String, byte[]> record,
+            @NotNull String key) {
+        Header header = record.headers().lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "DeadLetter{" +
+                "id=" + id +
+                ", originalTopic='" + originalTopic + '\'' +
+                ", key='" + key + '\'' +
+                ", exceptionClass='" + exceptionClass + '\'' +
+                ", exceptionMessage='" + exceptionMessage + '\'' +
+                ", failedAt=" + failedAt +
+                '}';
+    }
+}
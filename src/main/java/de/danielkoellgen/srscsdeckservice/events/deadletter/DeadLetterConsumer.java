@@ -0,0 +1,28 @@
+package de.danielkoellgen.srscsdeckservice.events.deadletter;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeadLetterConsumer {
+
+    private final DeadLetterRepository deadLetterRepository;
+
+    private final Logger log = LoggerFactory.getLogger(DeadLetterConsumer.class);
+
+    @Autowired
+    public DeadLetterConsumer(DeadLetterRepository deadLetterRepository) {
+        this.deadLetterRepository = deadLetterRepository;
+    }
+
+    @KafkaListener(id = "dead-letters", topics = {"cmd.decks-cards.0-dlt", "cdc.users.0-dlt"})
+    public void receive(@NotNull ConsumerRecord<String, byte[]> record) {
+        DeadLetter deadLetter = deadLetterRepository.save(DeadLetter.makeFromRecord(record));
+        log.warn("Stored dead letter from '{}'. {}", deadLetter.getOriginalTopic(), deadLetter);
+    }
+}
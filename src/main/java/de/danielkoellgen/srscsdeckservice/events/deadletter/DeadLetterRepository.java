@@ -0,0 +1,12 @@
+package de.danielkoellgen.srscsdeckservice.events.deadletter;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+public interface DeadLetterRepository extends CrudRepository<DeadLetter, ObjectId> {
+
+    List<DeadLetter> findByOrderByIdAsc(Pageable pageable);
+}
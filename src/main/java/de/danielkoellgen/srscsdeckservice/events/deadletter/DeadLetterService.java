@@ -0,0 +1,59 @@
+package de.danielkoellgen.srscsdeckservice.events.deadletter;
+
+import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.bson.types.ObjectId;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+
+@Service
+public class DeadLetterService {
+
+    private final DeadLetterRepository deadLetterRepository;
+    private final KafkaProducer kafkaProducer;
+
+    private final Logger log = LoggerFactory.getLogger(DeadLetterService.class);
+
+    @Autowired
+    public DeadLetterService(DeadLetterRepository deadLetterRepository, KafkaProducer kafkaProducer) {
+        this.deadLetterRepository = deadLetterRepository;
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    public @NotNull List<DeadLetter> findDeadLetters(int limit) {
+        return deadLetterRepository.findByOrderByIdAsc(PageRequest.of(0, limit));
+    }
+
+    public void replayDeadLetter(@NotNull ObjectId deadLetterId)
+            throws NoSuchElementException, UnsupportedOperationException {
+        log.trace("Replaying dead letter '{}'...", deadLetterId);
+
+        DeadLetter deadLetter = deadLetterRepository.findById(deadLetterId).orElseThrow();
+        log.debug("Fetched DeadLetter: {}", deadLetter);
+
+        if (!deadLetter.isReplayable()) {
+            throw new UnsupportedOperationException(
+                    "Dead letters of '" + deadLetter.getOriginalTopic() + "' cannot be replayed.");
+        }
+        ProducerRecord<String, byte[]> replayRecord = deadLetter.makeReplayRecord();
+
+        try {
+            kafkaProducer.publish(replayRecord).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying dead letter.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to replay dead letter.", e.getCause());
+        }
+        deadLetterRepository.delete(deadLetter);
+        log.info("Dead letter '{}' replayed to '{}'.", deadLetterId, replayRecord.topic());
+    }
+}
@@ -0,0 +1,105 @@
+package de.danielkoellgen.srscsdeckservice.events.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Remembers applied event-ids. Recent ids are answered from a bounded LRU cache, older ones from the
+ * TTL-indexed 'processed_events' collection.
+ */
+@Component
+public class EventDeduplicator {
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    private final Map<UUID, Boolean> recentEventIds;
+
+    private final Counter cacheHits;
+    private final Counter storeHits;
+
+    private final Logger log = LoggerFactory.getLogger(EventDeduplicator.class);
+
+    @Autowired
+    public EventDeduplicator(ProcessedEventRepository processedEventRepository, MeterRegistry meterRegistry,
+            @Value("${events.dedupe.cacheSize:100000}") Integer cacheSize) {
+        this.processedEventRepository = processedEventRepository;
+        this.recentEventIds = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.cacheHits = Counter.builder("events.dedupe.duplicates").tag("source", "cache").register(meterRegistry);
+        this.storeHits = Counter.builder("events.dedupe.duplicates").tag("source", "store").register(meterRegistry);
+    }
+
+    public boolean isProcessed(@NotNull UUID eventId) {
+        if (recentEventIds.containsKey(eventId)) {
+            cacheHits.increment();
+            return true;
+        }
+        if (processedEventRepository.existsById(eventId)) {
+            storeHits.increment();
+            recentEventIds.put(eventId, true);
+            return true;
+        }
+        return false;
+    }
+
+    public @NotNull Set<UUID> findProcessed(@NotNull Collection<UUID> eventIds) {
+        Set<UUID> processed = new HashSet<>();
+        List<UUID> unknown = eventIds.stream()
+                .filter(eventId -> {
+                    if (recentEventIds.containsKey(eventId)) {
+                        processed.add(eventId);
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+        cacheHits.increment(processed.size());
+        if (!unknown.isEmpty()) {
+            Set<UUID> stored = StreamSupport.stream(processedEventRepository.findAllById(unknown).spliterator(), false)
+                    .map(ProcessedEvent::getEventId)
+                    .collect(Collectors.toSet());
+            stored.forEach(eventId -> recentEventIds.put(eventId, true));
+            storeHits.increment(stored.size());
+            processed.addAll(stored);
+        }
+        return processed;
+    }
+
+    public void markProcessed(@NotNull UUID eventId, @NotNull String topic) {
+        markAllProcessed(List.of(eventId), topic);
+    }
+
+    public void markAllProcessed(@NotNull Collection<UUID> eventIds, @NotNull String topic) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime processedAt = LocalDateTime.now();
+        processedEventRepository.saveAll(eventIds.stream()
+                .map(eventId -> new ProcessedEvent(eventId, topic, processedAt))
+                .toList());
+        eventIds.forEach(eventId -> recentEventIds.put(eventId, true));
+        log.trace("Marked {} events on '{}' as processed.", eventIds.size(), topic);
+    }
+}
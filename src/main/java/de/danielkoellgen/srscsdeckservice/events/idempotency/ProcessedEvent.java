@@ -0,0 +1,46 @@
+package de.danielkoellgen.srscsdeckservice.events.idempotency;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Document("processed_events")
+public class ProcessedEvent {
+
+    @Id
+    @NotNull
+    private final UUID eventId;
+
+    @NotNull
+    @Field("topic")
+    private final String topic;
+
+    @NotNull
+    @Indexed(name = "processed_at_ttl", expireAfter = "7d")
+    @Field("processed_at")
+    private final LocalDateTime processedAt;
+
+    @PersistenceConstructor
+    public ProcessedEvent(@NotNull UUID eventId, @NotNull String topic, @NotNull LocalDateTime processedAt) {
+        this.eventId = eventId;
+        this.topic = topic;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessedEvent{" +
+                "eventId=" + eventId +
+                ", topic='" + topic + '\'' +
+                ", processedAt=" + processedAt +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package de.danielkoellgen.srscsdeckservice.events.idempotency;
+
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.UUID;
+
+public interface ProcessedEventRepository extends CrudRepository<ProcessedEvent, UUID> {
+
+}
@@ -0,0 +1,71 @@
+package de.danielkoellgen.srscsdeckservice.events.outbox;
+
+import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import de.danielkoellgen.srscsdeckservice.events.producer.ProducerEvent;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class EventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducer kafkaProducer;
+
+    private final EventContentType contentType;
+
+    private final Logger log = LoggerFactory.getLogger(EventOutbox.class);
+
+    @Autowired
+    public EventOutbox(OutboxEventRepository outboxEventRepository, KafkaProducer kafkaProducer,
+            @Value("${kafka.producer.contentType:application/json}") String contentType) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.contentType = EventContentType.makeFromMimeType(contentType);
+    }
+
+    public void enqueue(@NotNull ProducerEvent event) {
+        ProducerRecord<String, byte[]> record = KafkaProducer.makeRecord(event, contentType);
+        if (kafkaProducer.isInConsumerTransaction()) {
+            log.info("Publishing '{}'-event to '{}' kafka-topic within the consumer-transaction. {}",
+                    event.getEventName(), event.getTopic(), event);
+            kafkaProducer.publishInConsumerTransaction(record);
+            return;
+        }
+        log.info("Enqueueing '{}'-event for '{}' kafka-topic. {}", event.getEventName(), event.getTopic(), event);
+        outboxEventRepository.save(OutboxEvent.makeFromRecord(record));
+    }
+
+    public void enqueueAll(@NotNull List<? extends ProducerEvent> events) {
+        List<ProducerRecord<String, byte[]>> records = events.stream()
+                .map(event -> KafkaProducer.makeRecord(event, contentType))
+                .toList();
+        if (kafkaProducer.isInConsumerTransaction()) {
+            log.info("Publishing {} events within the consumer-transaction.", events.size());
+            records.forEach(kafkaProducer::publishInConsumerTransaction);
+            return;
+        }
+        log.info("Enqueueing {} events.", events.size());
+        outboxEventRepository.saveAll(records.stream()
+                .map(OutboxEvent::makeFromRecord)
+                .toList());
+    }
+
+    /**
+     * Writes the events to the outbox even within a consumer-transaction, for work that is committed to Mongo in
+     * chunks and would not fit into a single Kafka transaction.
+     */
+    public void enqueueAllInOutbox(@NotNull List<? extends ProducerEvent> events) {
+        log.info("Enqueueing {} events.", events.size());
+        outboxEventRepository.saveAll(events.stream()
+                .map(event -> OutboxEvent.makeFromRecord(KafkaProducer.makeRecord(event, contentType)))
+                .toList());
+    }
+}
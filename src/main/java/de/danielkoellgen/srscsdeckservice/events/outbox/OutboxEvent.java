@@ -0,0 +1,82 @@
+package de.danielkoellgen.srscsdeckservice.events.outbox;
+
+import lombok.Getter;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.bson.types.ObjectId;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Document("outbox_events")
+public class OutboxEvent {
+
+    @Id
+    @Nullable
+    private ObjectId id;
+
+    @NotNull
+    @Field("topic")
+    private final String topic;
+
+    @Nullable
+    @Field("key")
+    private final String key;
+
+    @NotNull
+    @Field("headers")
+    private final Map<String, byte[]> headers;
+
+    @NotNull
+    @Field("value")
+    private final byte[] value;
+
+    @NotNull
+    @Field("created_at")
+    private final LocalDateTime createdAt;
+
+    @PersistenceConstructor
+    public OutboxEvent(@Nullable ObjectId id, @NotNull String topic, @Nullable String key,
+            @NotNull Map<String, byte[]> headers, @NotNull byte[] value, @NotNull LocalDateTime createdAt) {
+        this.id = id;
+        this.topic = topic;
+        this.key = key;
+        this.headers = headers;
+        this.value = value;
+        this.createdAt = createdAt;
+    }
+
+    public static @NotNull OutboxEvent makeFromRecord(@NotNull ProducerRecord<String, byte[]> record) {
+        Map<String, byte[]> headers = new LinkedHashMap<>();
+        for (Header header : record.headers()) {
+            headers.put(header.key(), header.value());
+        }
+        return new OutboxEvent(null, record.topic(), record.key(), headers, record.value(), LocalDateTime.now());
+    }
+
+    public @NotNull ProducerRecord<String, byte[]> makeRecord() {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, value);
+        headers.forEach((headerKey, headerValue) -> record.headers().add(new RecordHeader(headerKey, headerValue)));
+        return record;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", topic='" + topic + '\'' +
+                ", key='" + key + '\'' +
+                ", headers=" + headers +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,12 @@
+package de.danielkoellgen.srscsdeckservice.events.outbox;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends CrudRepository<OutboxEvent, ObjectId> {
+
+    List<OutboxEvent> findByOrderByIdAsc(Pageable pageable);
+}
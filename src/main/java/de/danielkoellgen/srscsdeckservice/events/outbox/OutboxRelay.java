@@ -0,0 +1,119 @@
+package de.danielkoellgen.srscsdeckservice.events.outbox;
+
+import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducer kafkaProducer;
+    private final MongoTemplate mongoTemplate;
+
+    private final Integer batchSize;
+    private final Duration leaseDuration;
+    private final Duration sendTimeout;
+
+    private final UUID instanceId = UUID.randomUUID();
+
+    private static final String LEASE_COLLECTION = "outbox_leases";
+    private static final String LEASE_ID = "relay";
+
+    private final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, KafkaProducer kafkaProducer,
+            MongoTemplate mongoTemplate,
+            @Value("${outbox.relay.batchSize:500}") Integer batchSize,
+            @Value("${outbox.relay.leaseMs:30000}") Long leaseMs,
+            @Value("${outbox.relay.sendTimeoutMs:10000}") Long sendTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProducer = kafkaProducer;
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMs);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.intervalMs:200}")
+    public void relay() {
+        List<OutboxEvent> batch;
+        do {
+            if (!acquireLease()) {
+                log.trace("Outbox-Relay lease is held by another instance.");
+                return;
+            }
+            batch = outboxEventRepository.findByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+            log.trace("Relaying {} outboxed events...", batch.size());
+            int delivered = publishInOrder(batch);
+            outboxEventRepository.deleteAll(batch.subList(0, delivered));
+            log.debug("{} outboxed events relayed.", delivered);
+            if (delivered < batch.size()) {
+                log.warn("Relaying stopped at outboxed event '{}'. Retrying with the next run.",
+                        batch.get(delivered).getId());
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private int publishInOrder(@NotNull List<OutboxEvent> batch) {
+        List<ListenableFuture<SendResult<String, byte[]>>> futures = batch.stream()
+                .map(event -> kafkaProducer.publish(event.makeRecord()))
+                .toList();
+        kafkaProducer.flush();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            } catch (ExecutionException | TimeoutException e) {
+                return i;
+            }
+        }
+        return futures.size();
+    }
+
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(LEASE_ID).orOperator(
+                Criteria.where("owner").is(instanceId),
+                Criteria.where("expires_at").lt(now)));
+        Update update = new Update()
+                .set("owner", instanceId)
+                .set("expires_at", now.plus(leaseDuration));
+        try {
+            mongoTemplate.upsert(query, update, LEASE_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
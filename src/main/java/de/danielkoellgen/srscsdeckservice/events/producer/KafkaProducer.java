@@ -1,37 +1,129 @@
 package de.danielkoellgen.srscsdeckservice.events.producer;
 
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventEnvelope;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.Headers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
 
 @Component
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> transactionalKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final EventContentType contentType;
+    private final Semaphore inFlightPermits;
 
     private final Logger log = LoggerFactory.getLogger(KafkaProducer.class);
 
     @Autowired
-    public KafkaProducer(KafkaTemplate<String, String> kafkaTemplate) {
+    public KafkaProducer(KafkaTemplate<String, byte[]> kafkaTemplate,
+            @Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, byte[]> transactionalKafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.producer.maxInFlightRecords:10000}") Integer maxInFlightRecords,
+            @Value("${kafka.producer.contentType:application/json}") String contentType) {
         this.kafkaTemplate = kafkaTemplate;
+        this.transactionalKafkaTemplate = transactionalKafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.contentType = EventContentType.makeFromMimeType(contentType);
+        this.inFlightPermits = new Semaphore(maxInFlightRecords);
+        Gauge.builder("kafka.producer.records.in.flight", inFlightPermits,
+                        permits -> maxInFlightRecords - permits.availablePermits())
+                .description("Records handed to the producer whose delivery has not completed yet.")
+                .register(meterRegistry);
     }
 
     public void send(ProducerEvent event) {
         log.info("Publishing '{}'-event to '{}' kafka-topic. {}", event.getEventName(),
                 event.getTopic(), event);
+        publish(makeRecord(event, contentType));
+    }
+
+    public ListenableFuture<SendResult<String, byte[]>> publish(ProducerRecord<String, byte[]> record) {
+        if (!inFlightPermits.tryAcquire()) {
+            log.warn("In-flight buffer exhausted. Blocking until the broker acknowledges pending records...");
+            inFlightPermits.acquireUninterruptibly();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            ListenableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(record);
+            future.addCallback(
+                    result -> onCompletion(record, startedAt, null),
+                    e -> onCompletion(record, startedAt, e));
+            return future;
+        } catch (RuntimeException e) {
+            onCompletion(record, startedAt, e);
+            throw e;
+        }
+    }
+
+    public boolean isInConsumerTransaction() {
+        return TransactionSynchronizationManager.getResource(transactionalKafkaTemplate.getProducerFactory()) != null;
+    }
+
+    public void publishInConsumerTransaction(ProducerRecord<String, byte[]> record) {
+        transactionalKafkaTemplate.send(record);
+    }
+
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+    private void onCompletion(ProducerRecord<String, byte[]> record, long startedAt, Throwable failure) {
+        inFlightPermits.release();
+        Timer.builder("kafka.producer.send.latency")
+                .description("Time from handing a record to the producer until the broker acknowledged it.")
+                .tag("topic", record.topic())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+        Counter.builder("kafka.producer.sends")
+                .tag("topic", record.topic())
+                .tag("result", failure == null ? "success" : "failure")
+                .register(meterRegistry)
+                .increment();
+        if (failure != null) {
+            log.error("Failed to publish event '{}' to '{}' kafka-topic.",
+                    EventEnvelope.readUuid(record.headers(), "eventId", EventEnvelope.readContentType(record.headers())),
+                    record.topic(), failure);
+        }
+    }
+
+    public static ProducerRecord<String, byte[]> makeRecord(ProducerEvent event) {
+        return makeRecord(event, EventContentType.JSON);
+    }
 
-        ProducerRecord<String, String> record = new ProducerRecord<>(event.getTopic(), event.getSerializedContent());
-        record.headers().add(new RecordHeader("eventId", event.getEventId().toString().getBytes()));
-        record.headers().add(new RecordHeader("transactionId", event.getTransactionId().getBytes()));
+    public static ProducerRecord<String, byte[]> makeRecord(ProducerEvent event, EventContentType contentType) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(event.getTopic(), event.getPartitionKey(),
+                EventSerializer.serialize(event.getPayload(), contentType));
+        Headers headers = record.headers();
+        EventEnvelope.writeContentType(headers, contentType);
+        EventEnvelope.writeUuid(headers, "eventId", event.getEventId(), contentType);
+        EventEnvelope.writeString(headers, "transactionId", event.getTransactionId());
         if (event.getCorrelationId() != null) {
-            record.headers().add(new RecordHeader("correlationId", event.getCorrelationId().toString().getBytes()));
+            EventEnvelope.writeUuid(headers, "correlationId", event.getCorrelationId(), contentType);
         }
-        record.headers().add(new RecordHeader("timestamp", event.getOccurredAt().getFormatted().getBytes()));
-        record.headers().add(new RecordHeader("type", event.getEventName().getBytes()));
-        kafkaTemplate.send(record);
+        EventEnvelope.writeTimestamp(headers, "timestamp", event.getOccurredAt(), contentType);
+        EventEnvelope.writeString(headers, "type", event.getEventName());
+        return record;
     }
 }
@@ -20,5 +20,9 @@ public interface ProducerEvent {
 
     @NotNull String getTopic();
 
+    @NotNull String getPartitionKey();
+
+    @NotNull Object getPayload();
+
     @NotNull String getSerializedContent();
 }
@@ -1,9 +1,9 @@
 package de.danielkoellgen.srscsdeckservice.events.producer.card;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
 import de.danielkoellgen.srscsdeckservice.events.producer.AbstractProducerEvent;
 import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardCreatedDto;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -26,14 +26,19 @@ public class CardCreated extends AbstractProducerEvent {
         this.payloadDto = payloadDto;
     }
 
+    @Override
+    public @NotNull CardCreatedDto getPayload() {
+        return payloadDto;
+    }
+
+    @Override
+    public @NotNull String getPartitionKey() {
+        return payloadDto.cardId().toString();
+    }
+
     @Override
     public @NotNull String getSerializedContent() {
-        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        try {
-            return objectMapper.writeValueAsString(payloadDto);
-        } catch (Exception e) {
-            throw new RuntimeException("ObjectMapper conversion failed.");
-        }
+        return EventSerializer.serialize(payloadDto);
     }
 
     @Override
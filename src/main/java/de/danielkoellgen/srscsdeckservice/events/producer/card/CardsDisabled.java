@@ -0,0 +1,49 @@
+package de.danielkoellgen.srscsdeckservice.events.producer.card;
+
+import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
+import de.danielkoellgen.srscsdeckservice.events.producer.AbstractProducerEvent;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardsDisabledDto;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class CardsDisabled extends AbstractProducerEvent {
+
+    @NotNull
+    private final CardsDisabledDto payloadDto;
+
+    public static final String eventName = "cards-disabled";
+
+    public static final String eventTopic = "cdc.decks-cards.0";
+
+    public CardsDisabled(@NotNull String transactionId, @NotNull CardsDisabledDto payloadDto) {
+        super(UUID.randomUUID(), transactionId, null, eventName, eventTopic,
+                EventDateTime.makeFromLocalDateTime(LocalDateTime.now()));
+        this.payloadDto = payloadDto;
+    }
+
+    @Override
+    public @NotNull CardsDisabledDto getPayload() {
+        return payloadDto;
+    }
+
+    @Override
+    public @NotNull String getPartitionKey() {
+        return payloadDto.deckId().toString();
+    }
+
+    @Override
+    public @NotNull String getSerializedContent() {
+        return EventSerializer.serialize(payloadDto);
+    }
+
+    @Override
+    public String toString() {
+        return "CardsDisabled{" +
+                "payloadDto=" + payloadDto +
+                ", " + super.toString() +
+                '}';
+    }
+}
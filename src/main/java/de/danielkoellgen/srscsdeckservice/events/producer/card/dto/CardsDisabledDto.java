@@ -0,0 +1,17 @@
+package de.danielkoellgen.srscsdeckservice.events.producer.card.dto;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CardsDisabledDto(
+
+    @NotNull UUID deckId,
+
+    @NotNull UUID userId,
+
+    @NotNull List<UUID> cardIds
+
+) {
+}
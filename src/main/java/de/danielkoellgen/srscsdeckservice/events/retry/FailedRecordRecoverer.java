@@ -0,0 +1,117 @@
+package de.danielkoellgen.srscsdeckservice.events.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Forwards records that failed processing to the next retry tier or the dead-letter topic. Exception and
+ * origin metadata are added as 'kafka_dlt-*' headers.
+ */
+@Component
+public class FailedRecordRecoverer {
+
+    private final DeadLetterPublishingRecoverer retryRecoverer;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Logger log = LoggerFactory.getLogger(FailedRecordRecoverer.class);
+
+    @Autowired
+    public FailedRecordRecoverer(KafkaTemplate<String, byte[]> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.retryRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(RetryTopics.getNextTopic(record.topic()), -1));
+        this.retryRecoverer.setHeadersFunction(FailedRecordRecoverer::makeRetryHeaders);
+        this.deadLetterRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(RetryTopics.getDeadLetterTopic(record.topic()), -1));
+    }
+
+    public void recover(@NotNull ConsumerRecord<String, byte[]> record, @NotNull Exception exception) {
+        if (isRetryable(exception)) {
+            forward(retryRecoverer, RetryTopics.getNextTopic(record.topic()), record, exception);
+        } else {
+            sendToDeadLetter(record, exception);
+        }
+    }
+
+    public void sendToDeadLetter(@NotNull ConsumerRecord<String, byte[]> record, @NotNull Exception exception) {
+        forward(deadLetterRecoverer, RetryTopics.getDeadLetterTopic(record.topic()), record, exception);
+    }
+
+    /**
+     * Makes a recoverer for listeners running in a Kafka transaction. Records are forwarded like
+     * {@link #recover(ConsumerRecord, Exception)}, but through the given transactional template, so the forwarded
+     * record and the consumed offset are committed together.
+     */
+    public @NotNull DeadLetterPublishingRecoverer makeTransactionalRecoverer(
+            @NotNull KafkaOperations<String, byte[]> transactionalTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(transactionalTemplate,
+                (record, exception) -> new TopicPartition(isRetryable(unwrap(exception))
+                        ? RetryTopics.getNextTopic(record.topic())
+                        : RetryTopics.getDeadLetterTopic(record.topic()), -1));
+        recoverer.setHeadersFunction((record, exception) -> isRetryable(unwrap(exception))
+                ? makeRetryHeaders(record, exception)
+                : new RecordHeaders());
+        return recoverer;
+    }
+
+    public void awaitRetry(@NotNull ConsumerRecord<String, byte[]> record) throws InterruptedException {
+        Header dueAtHeader = record.headers().lastHeader(RetryTopics.RETRY_DUE_AT_HEADER);
+        long dueAt = dueAtHeader != null
+                ? ByteBuffer.wrap(dueAtHeader.value()).getLong()
+                : record.timestamp() + RetryTopics.getBackoff(record.topic()).toMillis();
+        long remaining = dueAt - System.currentTimeMillis();
+        if (remaining > 0) {
+            log.trace("Waiting {} ms before retrying record at offset {} on '{}'.", remaining, record.offset(),
+                    record.topic());
+            Thread.sleep(remaining);
+        }
+    }
+
+    private void forward(DeadLetterPublishingRecoverer recoverer, String destination,
+            ConsumerRecord<String, byte[]> record, Exception exception) {
+        log.warn("Processing of record at offset {} on '{}' failed. Forwarding it to '{}'.", record.offset(),
+                record.topic(), destination, exception);
+        recoverer.accept(record, exception);
+        meterRegistry.counter("kafka.consumer.records.failed",
+                "topic", RetryTopics.getOriginalTopic(record.topic()), "destination", destination).increment();
+    }
+
+    private static Exception unwrap(Exception exception) {
+        if (exception instanceof ListenerExecutionFailedException && exception.getCause() instanceof Exception cause) {
+            return cause;
+        }
+        return exception;
+    }
+
+    private static boolean isRetryable(Exception exception) {
+        return !(exception instanceof JsonProcessingException || exception instanceof IllegalArgumentException);
+    }
+
+    private static Headers makeRetryHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+        String nextTopic = RetryTopics.getNextTopic(record.topic());
+        long dueAt = Instant.now().plus(RetryTopics.getBackoff(nextTopic)).toEpochMilli();
+        Headers headers = new RecordHeaders();
+        headers.add(new RecordHeader(RetryTopics.RETRY_DUE_AT_HEADER, ByteBuffer.allocate(8).putLong(dueAt).array()));
+        return headers;
+    }
+}
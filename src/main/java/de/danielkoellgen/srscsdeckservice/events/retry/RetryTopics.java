@@ -0,0 +1,72 @@
+package de.danielkoellgen.srscsdeckservice.events.retry;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Naming of the tiered retry topics. A failed record of 'topic' moves through 'topic-retry-{delay-ms}' for
+ * every backoff and ends up in 'topic-dlt'.
+ */
+public final class RetryTopics {
+
+    public static final List<Duration> BACKOFFS = List.of(
+            Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+    public static final String RETRY_DUE_AT_HEADER = "retry-due-at";
+
+    private static final String RETRY_SUFFIX = "-retry-";
+    private static final String DEAD_LETTER_SUFFIX = "-dlt";
+
+    private static final Pattern SUFFIX_PATTERN = Pattern.compile("^(.+?)(?:-retry-(\\d+)|-dlt)?$");
+
+    private RetryTopics() {
+    }
+
+    public static @NotNull List<String> getRetryTopics(@NotNull String topic) {
+        return BACKOFFS.stream()
+                .map(backoff -> topic + RETRY_SUFFIX + backoff.toMillis())
+                .toList();
+    }
+
+    public static @NotNull String getDeadLetterTopic(@NotNull String topic) {
+        return getOriginalTopic(topic) + DEAD_LETTER_SUFFIX;
+    }
+
+    public static @NotNull String getOriginalTopic(@NotNull String topic) {
+        Matcher matcher = SUFFIX_PATTERN.matcher(topic);
+        return matcher.matches() ? matcher.group(1) : topic;
+    }
+
+    public static boolean isDeadLetterTopic(@NotNull String topic) {
+        return topic.endsWith(DEAD_LETTER_SUFFIX);
+    }
+
+    public static @NotNull Duration getBackoff(@NotNull String retryTopic) {
+        Matcher matcher = SUFFIX_PATTERN.matcher(retryTopic);
+        if (!matcher.matches() || matcher.group(2) == null) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(Long.parseLong(matcher.group(2)));
+    }
+
+    /**
+     * Returns the topic a record that failed on 'topic' is forwarded to, which is the dead-letter topic once
+     * all retry tiers are exhausted.
+     */
+    public static @NotNull String getNextTopic(@NotNull String topic) {
+        String originalTopic = getOriginalTopic(topic);
+        List<String> retryTopics = getRetryTopics(originalTopic);
+        int tier = retryTopics.indexOf(topic);
+        if (topic.equals(originalTopic)) {
+            return retryTopics.get(0);
+        }
+        if (tier >= 0 && tier + 1 < retryTopics.size()) {
+            return retryTopics.get(tier + 1);
+        }
+        return getDeadLetterTopic(originalTopic);
+    }
+}
@@ -0,0 +1,40 @@
+package de.danielkoellgen.srscsdeckservice.events.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public enum EventContentType {
+
+    JSON("application/json"),
+
+    CBOR("application/cbor");
+
+    public static final String HEADER = "content-type";
+
+    private final @NotNull String mimeType;
+
+    EventContentType(@NotNull String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public @NotNull String getMimeType() {
+        return mimeType;
+    }
+
+    public static @NotNull EventContentType makeFromMimeType(@NotNull String mimeType) {
+        return Arrays.stream(values())
+                .filter(contentType -> contentType.mimeType.equalsIgnoreCase(mimeType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported content-type '" + mimeType + "'."));
+    }
+
+    public static @NotNull EventContentType makeFromHeader(@Nullable byte[] headerValue) {
+        if (headerValue == null) {
+            return JSON;
+        }
+        return makeFromMimeType(new String(headerValue, StandardCharsets.US_ASCII));
+    }
+}
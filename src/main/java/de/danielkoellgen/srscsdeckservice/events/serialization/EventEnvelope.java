@@ -0,0 +1,93 @@
+package de.danielkoellgen.srscsdeckservice.events.serialization;
+
+import de.danielkoellgen.srscsdeckservice.domain.domainprimitive.EventDateTime;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Reads and writes the record headers of an event. JSON records carry every header as an ASCII string.
+ * Binary records encode UUIDs as 16 bytes and timestamps as 8 byte epoch millis.
+ */
+public final class EventEnvelope {
+
+    private EventEnvelope() {
+    }
+
+    public static @NotNull EventContentType readContentType(@NotNull Headers headers) {
+        Header header = headers.lastHeader(EventContentType.HEADER);
+        return EventContentType.makeFromHeader(header != null ? header.value() : null);
+    }
+
+    public static void writeContentType(@NotNull Headers headers, @NotNull EventContentType contentType) {
+        if (contentType != EventContentType.JSON) {
+            writeString(headers, EventContentType.HEADER, contentType.getMimeType());
+        }
+    }
+
+    public static @NotNull String readString(@NotNull Headers headers, @NotNull String key) {
+        return new String(readRequired(headers, key), StandardCharsets.US_ASCII);
+    }
+
+    public static void writeString(@NotNull Headers headers, @NotNull String key, @NotNull String value) {
+        headers.add(new RecordHeader(key, value.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public static @Nullable UUID readUuid(@NotNull Headers headers, @NotNull String key,
+            @NotNull EventContentType contentType) {
+        Header header = headers.lastHeader(key);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        if (contentType == EventContentType.JSON) {
+            return UUID.fromString(new String(header.value(), StandardCharsets.US_ASCII));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(header.value());
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static void writeUuid(@NotNull Headers headers, @NotNull String key, @NotNull UUID value,
+            @NotNull EventContentType contentType) {
+        if (contentType == EventContentType.JSON) {
+            writeString(headers, key, value.toString());
+            return;
+        }
+        headers.add(new RecordHeader(key, ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array()));
+    }
+
+    public static @NotNull EventDateTime readTimestamp(@NotNull Headers headers, @NotNull String key,
+            @NotNull EventContentType contentType) {
+        byte[] value = readRequired(headers, key);
+        if (contentType == EventContentType.JSON) {
+            return EventDateTime.makeFromFormattedString(new String(value, StandardCharsets.US_ASCII));
+        }
+        return EventDateTime.makeFromEpochMillis(ByteBuffer.wrap(value).getLong());
+    }
+
+    public static void writeTimestamp(@NotNull Headers headers, @NotNull String key, @NotNull EventDateTime value,
+            @NotNull EventContentType contentType) {
+        if (contentType == EventContentType.JSON) {
+            writeString(headers, key, value.getFormatted());
+            return;
+        }
+        headers.add(new RecordHeader(key, ByteBuffer.allocate(8).putLong(value.getEpochMillis()).array()));
+    }
+
+    private static byte[] readRequired(@NotNull Headers headers, @NotNull String key) {
+        Header header = headers.lastHeader(key);
+        if (header == null || header.value() == null) {
+            throw new NoSuchElementException("Missing record-header '" + key + "'.");
+        }
+        return header.value();
+    }
+}
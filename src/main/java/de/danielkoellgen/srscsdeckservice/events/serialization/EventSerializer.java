@@ -0,0 +1,114 @@
+package de.danielkoellgen.srscsdeckservice.events.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared mappers for event payloads, with readers and writers cached per type. The mappers are set up from the
+ * 'events.serialization.blackbird' property by
+ * {@link de.danielkoellgen.srscsdeckservice.EventSerializationConfig}, plain mappers are used until then.
+ */
+public final class EventSerializer {
+
+    private static volatile Mappers mappers = new Mappers(false);
+
+    private EventSerializer() {
+    }
+
+    /**
+     * Replaces the shared mappers. Readers and writers cached for the previous mappers are dropped.
+     */
+    public static void useBlackbird(boolean withBlackbird) {
+        mappers = new Mappers(withBlackbird);
+    }
+
+    public static @NotNull String serialize(@NotNull Object payload) {
+        try {
+            Mappers current = mappers;
+            return current.writers.computeIfAbsent(payload.getClass(), current.mapper::writerFor)
+                    .writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("ObjectMapper conversion failed.", e);
+        }
+    }
+
+    public static <T> @NotNull T deserialize(@NotNull String serialized, @NotNull Class<T> type)
+            throws JsonProcessingException {
+        Mappers current = mappers;
+        return current.readers.computeIfAbsent(type, current.mapper::readerFor).readValue(serialized);
+    }
+
+    public static byte[] serialize(@NotNull Object payload, @NotNull EventContentType contentType) {
+        Mappers current = mappers;
+        try {
+            return switch (contentType) {
+                case JSON -> current.writers.computeIfAbsent(payload.getClass(), current.mapper::writerFor)
+                        .writeValueAsBytes(payload);
+                case CBOR -> current.cborWriters.computeIfAbsent(payload.getClass(), current.cborMapper::writerFor)
+                        .writeValueAsBytes(payload);
+            };
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("ObjectMapper conversion failed.", e);
+        }
+    }
+
+    public static <T> @NotNull T deserialize(byte[] serialized, @NotNull EventContentType contentType,
+            @NotNull Class<T> type) throws JsonProcessingException {
+        Mappers current = mappers;
+        try {
+            return switch (contentType) {
+                case JSON -> current.readers.computeIfAbsent(type, current.mapper::readerFor).readValue(serialized);
+                case CBOR -> current.cborReaders.computeIfAbsent(type, current.cborMapper::readerFor)
+                        .readValue(serialized);
+            };
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static @NotNull ObjectMapper makeMapper(boolean withBlackbird) {
+        return configure(JsonMapper.builder(), withBlackbird);
+    }
+
+    public static @NotNull ObjectMapper makeCborMapper(boolean withBlackbird) {
+        return configure(CBORMapper.builder(), withBlackbird);
+    }
+
+    private static ObjectMapper configure(MapperBuilder<?, ?> builder, boolean withBlackbird) {
+        builder.findAndAddModules();
+        if (withBlackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    private static final class Mappers {
+
+        private final ObjectMapper mapper;
+        private final ObjectMapper cborMapper;
+
+        private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectWriter> cborWriters = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectReader> cborReaders = new ConcurrentHashMap<>();
+
+        private Mappers(boolean withBlackbird) {
+            this.mapper = makeMapper(withBlackbird);
+            this.cborMapper = makeCborMapper(withBlackbird);
+        }
+    }
+}
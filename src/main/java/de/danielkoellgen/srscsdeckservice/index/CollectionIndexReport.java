@@ -0,0 +1,20 @@
+package de.danielkoellgen.srscsdeckservice.index;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public record CollectionIndexReport(
+
+    @NotNull String collection,
+
+    @NotNull List<String> requiredIndexes,
+
+    @NotNull List<String> presentIndexes,
+
+    @NotNull List<String> missingIndexes,
+
+    @NotNull List<String> unusedIndexes
+
+) {
+}
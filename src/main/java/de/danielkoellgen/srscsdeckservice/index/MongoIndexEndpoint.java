@@ -0,0 +1,26 @@
+package de.danielkoellgen.srscsdeckservice.index;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "mongoindexes")
+public class MongoIndexEndpoint {
+
+    private final MongoIndexManager mongoIndexManager;
+
+    @Autowired
+    public MongoIndexEndpoint(MongoIndexManager mongoIndexManager) {
+        this.mongoIndexManager = mongoIndexManager;
+    }
+
+    @ReadOperation
+    public @NotNull List<CollectionIndexReport> indexes() {
+        return mongoIndexManager.getIndexReport();
+    }
+}
@@ -0,0 +1,109 @@
+package de.danielkoellgen.srscsdeckservice.index;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.TypingCard;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
+import de.danielkoellgen.srscsdeckservice.events.idempotency.ProcessedEvent;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class MongoIndexManager {
+
+    private static final List<Class<?>> MANAGED_DOCUMENTS = List.of(
+            DefaultCard.class, TypingCard.class, Deck.class, SchedulerPreset.class, User.class,
+            ProcessedEvent.class);
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoPersistentEntityIndexResolver indexResolver;
+
+    private final Logger log = LoggerFactory.getLogger(MongoIndexManager.class);
+
+    @Autowired
+    public MongoIndexManager(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexResolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        log.trace("Ensuring indexes for {} collections...", MANAGED_DOCUMENTS.size());
+        MANAGED_DOCUMENTS.forEach(documentClass -> {
+            IndexOperations indexOperations = mongoTemplate.indexOps(documentClass);
+            getRequiredIndexes(documentClass).forEach(indexDefinition -> {
+                String indexName = indexOperations.ensureIndex(indexDefinition);
+                log.debug("Index '{}' ensured on '{}'.", indexName, mongoTemplate.getCollectionName(documentClass));
+            });
+        });
+        log.info("Indexes ensured for {} collections.", MANAGED_DOCUMENTS.size());
+    }
+
+    public @NotNull List<CollectionIndexReport> getIndexReport() {
+        return MANAGED_DOCUMENTS.stream()
+                .map(this::makeCollectionReport)
+                .toList();
+    }
+
+    public @NotNull List<IndexDefinition> getRequiredIndexes(@NotNull Class<?> documentClass) {
+        List<IndexDefinition> indexDefinitions = new ArrayList<>();
+        indexResolver.resolveIndexFor(documentClass).forEach(indexDefinitions::add);
+        return indexDefinitions;
+    }
+
+    private @NotNull CollectionIndexReport makeCollectionReport(@NotNull Class<?> documentClass) {
+        String collectionName = mongoTemplate.getCollectionName(documentClass);
+        List<String> requiredIndexes = getRequiredIndexes(documentClass).stream()
+                .map(indexDefinition -> indexDefinition.getIndexOptions().getString("name"))
+                .toList();
+        Set<String> presentIndexes = mongoTemplate.indexOps(documentClass).getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        List<String> missingIndexes = requiredIndexes.stream()
+                .filter(indexName -> !presentIndexes.contains(indexName))
+                .toList();
+        List<String> unusedIndexes = findUnusedIndexes(collectionName);
+        if (!missingIndexes.isEmpty()) {
+            log.warn("Collection '{}' is missing indexes {}.", collectionName, missingIndexes);
+        }
+        return new CollectionIndexReport(collectionName, requiredIndexes, presentIndexes.stream().sorted().toList(),
+                missingIndexes, unusedIndexes);
+    }
+
+    private @NotNull List<String> findUnusedIndexes(@NotNull String collectionName) {
+        List<Document> indexStats;
+        try {
+            indexStats = mongoTemplate.getCollection(collectionName)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))
+                    .into(new ArrayList<>());
+        } catch (Exception e) {
+            log.warn("Failed to fetch index-stats for '{}'. {}", collectionName, e.getMessage());
+            return List.of();
+        }
+        return indexStats.stream()
+                .filter(stats -> !ID_INDEX.equals(stats.getString("name")))
+                .filter(stats -> stats.get("accesses", Document.class).get("ops", Number.class).longValue() == 0)
+                .map(stats -> stats.getString("name"))
+                .sorted()
+                .toList();
+    }
+}
@@ -136,6 +136,35 @@ public class KafkaDeckCardsCommandConsumerIntegrationTest {
                 .hasSize(3);
     }
 
+    @Test
+    public void shouldNotDuplicateDeckOrCardsWhenCloneDeckCommandIsRedelivered() throws Exception {
+        // given
+        CloneDeckCmd cloneDeckCmd = new CloneDeckCmd(UUID.randomUUID().toString(), null, new CloneDeckDto(
+                deck.getDeckId(), user.getUserId(), "target"
+        ));
+        kafkaDeckCardsCommandConsumer.receive(
+                converterToConsumerRecord.convert(cloneDeckCmd)
+        );
+
+        // when
+        kafkaDeckCardsCommandConsumer.receive(
+                converterToConsumerRecord.convert(cloneDeckCmd)
+        );
+
+        // then
+        List<Deck> clonedDecks = deckRepository.findDecksByEmbeddedUser_UserId(user.getUserId()).stream()
+                .filter(deck -> deck.getDeckName().getName().equals("target"))
+                .toList();
+        assertThat(clonedDecks)
+                .hasSize(1);
+
+        // and then
+        List<DefaultCard> clonedCards = defaultCardRepository.findAllByEmbeddedDeck_DeckId(
+                clonedDecks.get(0).getDeckId());
+        assertThat(clonedCards)
+                .hasSize(3);
+    }
+
     @Test
     public void shouldOverrideCardWhenReceivingOverrideCardCommand() throws Exception {
         // given
@@ -199,4 +228,30 @@ public class KafkaDeckCardsCommandConsumerIntegrationTest {
         assertThat(clonedCard.getHint())
                 .isNotNull();
     }
+
+    @Test
+    public void shouldCloneCardOnlyOnceWhenCloneCardCommandIsRedelivered() throws Exception {
+        // given
+        CloneCardCmd cloneCardCmd = new CloneCardCmd(
+                UUID.randomUUID().toString(),
+                null,
+                new CloneCardDto(
+                        cards.get(1).getCardId(),
+                        deck.getDeckId()
+                )
+        );
+        kafkaDeckCardsCommandConsumer.receive(
+                converterToConsumerRecord.convert(cloneCardCmd)
+        );
+
+        // when
+        kafkaDeckCardsCommandConsumer.receive(
+                converterToConsumerRecord.convert(cloneCardCmd)
+        );
+
+        // then
+        List<DefaultCard> cardsInDeck = defaultCardRepository.findAllByEmbeddedDeck_DeckId(deck.getDeckId());
+        assertThat(cardsInDeck)
+                .hasSize(cards.size() + 1);
+    }
 }
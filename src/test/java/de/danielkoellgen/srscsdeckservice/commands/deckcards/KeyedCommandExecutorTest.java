@@ -0,0 +1,111 @@
+package de.danielkoellgen.srscsdeckservice.commands.deckcards;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeyedCommandExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private KeyedCommandExecutor commandExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commandExecutor = new KeyedCommandExecutor(meterRegistry, 4, 8, false);
+    }
+
+    @AfterEach
+    public void cleanUp() throws Exception {
+        commandExecutor.shutdown();
+    }
+
+    @Test
+    public void shouldKeepSubmissionOrderPerKey() throws Exception {
+        // given
+        List<UUID> deckIds = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID()).toList();
+        Map<UUID, List<Integer>> processed = new ConcurrentHashMap<>();
+        deckIds.forEach(deckId -> processed.put(deckId, new CopyOnWriteArrayList<>()));
+        CountDownLatch completed = new CountDownLatch(deckIds.size() * 100);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            deckIds.forEach(deckId -> commandExecutor.submit(deckId, () -> {
+                processed.get(deckId).add(sequence);
+                completed.countDown();
+            }));
+        }
+
+        // then
+        assertThat(completed.await(10, TimeUnit.SECONDS))
+                .isTrue();
+        assertThat(processed.values())
+                .allSatisfy(sequences -> assertThat(sequences)
+                        .isSorted()
+                        .hasSize(100));
+    }
+
+    @Test
+    public void shouldExposeQueueDepthPerWorker() {
+        // when
+        int gauges = meterRegistry.find("kafka.consumer.commands.queue.depth").gauges().size();
+
+        // then
+        assertThat(gauges)
+                .isEqualTo(commandExecutor.getWorkerCount())
+                .isEqualTo(4);
+    }
+
+    @Test
+    public void shouldRunWaitedCommandAfterEarlierCommandsOfItsKey() throws Exception {
+        // given
+        UUID deckId = UUID.randomUUID();
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        commandExecutor.submit(deckId, () -> {
+            awaitQuietly(release);
+            processed.add(1);
+        });
+
+        // when
+        release.countDown();
+        commandExecutor.submitAndWait(deckId, () -> processed.add(2));
+
+        // then
+        assertThat(processed)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldRethrowExceptionOfWaitedCommand() {
+        // when
+        // then
+        assertThatThrownBy(() -> commandExecutor.submitAndWait(UUID.randomUUID(), () -> {
+            throw new IllegalArgumentException("anyFailure");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("anyFailure");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -21,10 +21,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -137,6 +139,7 @@ public class CardControllerIntegrationTest {
                 .accept(MediaType.APPLICATION_JSON)
                 .exchange()
                 .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
                 .expectBodyList(CardResponseDto.class)
                 .returnResult()
                 .getResponseBody();
@@ -150,6 +153,66 @@ public class CardControllerIntegrationTest {
                 .contains(card3);
     }
 
+    @Test
+    public void shouldAllowToFetchCardsByDeckPageByPage() {
+        // given
+        CardResponseDto card1 = externallyCreateDefaultCard(deck1.deckId());
+        CardResponseDto card2 = externallyCreateDefaultCard(deck1.deckId());
+        CardResponseDto card3 = externallyCreateDefaultCard(deck1.deckId());
+
+        // when
+        EntityExchangeResult<List<CardResponseDto>> firstPage = webTestClientCard.get()
+                .uri("/cards?deck-id=" + deck1.deckId() + "&page-size=2")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CardResponseDto.class)
+                .returnResult();
+        String nextCursor = firstPage.getResponseHeaders().getFirst("X-Next-Cursor");
+        EntityExchangeResult<List<CardResponseDto>> secondPage = webTestClientCard.get()
+                .uri("/cards?deck-id=" + deck1.deckId() + "&page-size=2&cursor=" + nextCursor)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CardResponseDto.class)
+                .returnResult();
+
+        // then
+        assertThat(nextCursor)
+                .isNotNull();
+        assertThat(firstPage.getResponseBody())
+                .hasSize(2);
+        assertThat(secondPage.getResponseBody())
+                .hasSize(1);
+        assertThat(secondPage.getResponseHeaders().getFirst("X-Next-Cursor"))
+                .isNull();
+        assertThat(Stream.concat(firstPage.getResponseBody().stream(), secondPage.getResponseBody().stream()))
+                .containsExactlyInAnyOrder(card1, card2, card3);
+    }
+
+    @Test
+    public void shouldAllowToStreamCardsByDeck() {
+        // given
+        CardResponseDto card1 = externallyCreateDefaultCard(deck1.deckId());
+        CardResponseDto card2 = externallyCreateDefaultCard(deck1.deckId());
+
+        // when
+        List<CardResponseDto> streamedCards = webTestClientCard.get()
+                .uri("/cards/stream?deck-id=" + deck1.deckId() + "&card-status=active")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(CardResponseDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(streamedCards)
+                .containsExactlyInAnyOrder(card1, card2);
+    }
+
     @Test
     public void shouldAllowToDisableCards() {
         // given
@@ -200,6 +263,46 @@ public class CardControllerIntegrationTest {
                 .isNull();
     }
 
+    @Test
+    public void shouldResolveLineageAndLatestActiveCardOfOverriddenCards() {
+        // given
+        CardResponseDto originalCard = externallyCreateDefaultCard(deck1.deckId());
+        CardResponseDto firstOverride = externallyOverrideCard(originalCard.cardId());
+        CardResponseDto secondOverride = externallyOverrideCard(firstOverride.cardId());
+
+        // when
+        CardLineageResponseDto lineage = webTestClientCard.get().uri("/cards/" + firstOverride.cardId() + "/lineage")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CardLineageResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        CardResponseDto latestCard = webTestClientCard.get().uri("/cards/" + originalCard.cardId() + "/latest")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CardResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assert lineage != null;
+        assertThat(lineage.lineage().stream().map(CardResponseDto::cardId).toList())
+                .containsExactly(originalCard.cardId(), firstOverride.cardId(), secondOverride.cardId());
+        assertThat(lineage.latestActiveCardId())
+                .isEqualTo(secondOverride.cardId());
+        assert latestCard != null;
+        assertThat(latestCard.cardId())
+                .isEqualTo(secondOverride.cardId());
+
+        // and then
+        webTestClientCard.get().uri("/cards/" + UUID.randomUUID() + "/lineage")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
     @Test
     public void shouldAllowToReviewCards() {
         // given
@@ -260,6 +363,78 @@ public class CardControllerIntegrationTest {
                 .isEqualTo("learning");
     }
 
+    @Test
+    public void shouldAllowToReviewCardsInBatch() {
+        // given
+        CardResponseDto initialCard = externallyCreateDefaultCard(deck1.deckId());
+        UUID unknownCardId = UUID.randomUUID();
+        BatchReviewRequestDto requestDto = new BatchReviewRequestDto(List.of(
+                new BatchReviewItemDto(initialCard.cardId(), "normal", "2022-05-02T10:00:00Z"),
+                new BatchReviewItemDto(initialCard.cardId(), "easy", "2022-05-01T10:00:00Z"),
+                new BatchReviewItemDto(unknownCardId, "easy", "2022-05-01T10:00:00Z"),
+                new BatchReviewItemDto(initialCard.cardId(), "anyAction", "2022-05-01T10:00:00Z")
+        ));
+
+        // when
+        BatchReviewResponseDto responseDto = webTestClientCard.post().uri("/cards/scheduler/activity/reviews:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BatchReviewResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assert responseDto != null;
+        assertThat(responseDto.results().stream().map(BatchReviewResultDto::status).toList())
+                .containsExactly("reviewed", "reviewed", "not-found", "invalid");
+        CardResponseDto reviewedCard = fetchExternalDefaultCard(initialCard.cardId());
+        assertThat(reviewedCard.scheduler().reviewCount())
+                .isEqualTo(2);
+        assertThat(reviewedCard.scheduler().lastReview())
+                .isEqualTo("2022-05-02T10:00:00Z");
+    }
+
+    @Test
+    public void shouldFetchDueCardsOrderedByNextReview() {
+        // given
+        CardResponseDto laterDueCard = externallyCreateDefaultCard(deck1.deckId());
+        CardResponseDto earlierDueCard = externallyCreateDefaultCard(deck1.deckId());
+        webTestClientCard.post().uri("/cards/"+laterDueCard.cardId()+"/scheduler/activity/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ReviewRequestDto("easy"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        // when
+        List<CardResponseDto> dueCards = webTestClientCard.get()
+                .uri("/decks/"+deck1.deckId()+"/due-cards?limit=2&now=2100-01-01T00:00:00Z")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CardResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        List<CardResponseDto> firstDueCard = webTestClientCard.get()
+                .uri("/decks/"+deck1.deckId()+"/due-cards?limit=1&now=2100-01-01T00:00:00Z")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CardResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assert dueCards != null;
+        assertThat(dueCards.stream().map(CardResponseDto::cardId).toList())
+                .containsExactly(earlierDueCard.cardId(), laterDueCard.cardId());
+        assert firstDueCard != null;
+        assertThat(firstDueCard.stream().map(CardResponseDto::cardId).toList())
+                .containsExactly(earlierDueCard.cardId());
+    }
+
     private @NotNull DeckResponseDto externallyCreateDeck(DeckRequestDto requestDto) {
         DeckResponseDto responseDto = webTestClientDeck.post().uri("/decks")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -307,6 +482,21 @@ public class CardControllerIntegrationTest {
         return responseDto;
     }
 
+    private @NotNull CardResponseDto externallyOverrideCard(UUID parentCardId) {
+        CardRequestDto requestDto = new CardRequestDto(deck1.deckId(), "default", null, null, null);
+        CardResponseDto responseDto = webTestClientCard.post().uri("/cards/" + parentCardId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CardResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assert responseDto != null;
+        return responseDto;
+    }
+
     private @NotNull CardResponseDto fetchExternalDefaultCard(UUID cardId) {
         CardResponseDto fetchedCard = webTestClientCard.get().uri("/cards/" + cardId)
                 .accept(MediaType.APPLICATION_JSON)
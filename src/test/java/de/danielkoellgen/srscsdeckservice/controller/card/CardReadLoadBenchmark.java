@@ -0,0 +1,148 @@
+package de.danielkoellgen.srscsdeckservice.controller.card;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load harness for the card read routes. Subclasses boot the application on a random port with either the servlet
+ * or the reactive stack, so that both log comparable throughput and latency figures for the same workload.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"outbox.relay.enabled=false"})
+public abstract class CardReadLoadBenchmark {
+
+    private static final int CARD_COUNT = 1_000;
+    private static final int CLIENT_COUNT = 64;
+    private static final int REQUESTS_PER_CLIENT = 500;
+    private static final int PAGE_SIZE = 20;
+
+    private final int port;
+    private final UserService userService;
+    private final DeckService deckService;
+    private final CardRepository cardRepository;
+    private final DeckRepository deckRepository;
+    private final UserRepository userRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private Deck deck;
+    private List<UUID> cardIds;
+
+    private final Logger log = LoggerFactory.getLogger(CardReadLoadBenchmark.class);
+
+    protected CardReadLoadBenchmark(int port, UserService userService, DeckService deckService,
+            CardRepository cardRepository, DeckRepository deckRepository, UserRepository userRepository) {
+        this.port = port;
+        this.userService = userService;
+        this.deckService = deckService;
+        this.cardRepository = cardRepository;
+        this.deckRepository = deckRepository;
+        this.userRepository = userRepository;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        User user = userService.addNewExternallyCreatedUser(UUID.randomUUID(), new Username("anyName"));
+        deck = deckService.createNewDeck(null, user.getUserId(), new DeckName("anyDeckName"));
+        List<AbstractCard> cards = new ArrayList<>();
+        IntStream.range(0, CARD_COUNT).forEach(i ->
+                cards.add(DefaultCard.makeNew(deck, CompiledSchedulerPreset.DEFAULT, null, null, null)));
+        cardRepository.insertAllIgnoringDuplicates(cards);
+        cardIds = cards.stream().map(AbstractCard::getCardId).toList();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        cardRepository.deleteAll();
+        deckRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldServeConcurrentCardReads() throws Exception {
+        // given
+        AtomicInteger failedRequests = new AtomicInteger();
+        List<Callable<long[]>> clients = IntStream.range(0, CLIENT_COUNT)
+                .mapToObj(i -> (Callable<long[]>) () -> sendReads(failedRequests))
+                .toList();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CLIENT_COUNT);
+
+        // when
+        long startedAt = System.nanoTime();
+        List<Future<long[]>> results = clientExecutor.invokeAll(clients);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        clientExecutor.shutdown();
+
+        // then
+        long[] latencies = results.stream()
+                .flatMapToLong(result -> Arrays.stream(result.resultNow()))
+                .sorted()
+                .toArray();
+        log.info("{}: {} card reads from {} clients in {} ms ({} requests/s, p50 {} ms, p99 {} ms).",
+                getStackName(), latencies.length, CLIENT_COUNT, elapsed.toMillis(),
+                latencies.length * 1000L / Math.max(1, elapsed.toMillis()),
+                Duration.ofNanos(latencies[latencies.length / 2]).toMillis(),
+                Duration.ofNanos(latencies[latencies.length * 99 / 100]).toMillis());
+        assertThat(failedRequests.get())
+                .isZero();
+    }
+
+    protected abstract String getStackName();
+
+    private long[] sendReads(AtomicInteger failedRequests) throws Exception {
+        long[] latencies = new long[REQUESTS_PER_CLIENT];
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            String path = i % 2 == 0
+                    ? "/cards/" + cardIds.get(ThreadLocalRandom.current().nextInt(cardIds.size()))
+                    : "/cards?deck-id=" + deck.getDeckId() + "&card-status=active&page-size=" + PAGE_SIZE;
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            long startedAt = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - startedAt;
+            if (response.statusCode() != 200) {
+                failedRequests.incrementAndGet();
+            }
+        }
+        return latencies;
+    }
+}
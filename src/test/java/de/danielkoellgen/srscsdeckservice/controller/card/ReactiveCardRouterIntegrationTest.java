@@ -0,0 +1,155 @@
+package de.danielkoellgen.srscsdeckservice.controller.card;
+
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.CardResponseDto;
+import de.danielkoellgen.srscsdeckservice.controller.card.dto.ReviewRequestDto;
+import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
+import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "reactive"})
+public class ReactiveCardRouterIntegrationTest {
+
+    private final WebTestClient webTestClientCard;
+
+    private final CardService cardService;
+    private final UserService userService;
+    private final DeckService deckService;
+    private final CardRepository cardRepository;
+    private final DeckRepository deckRepository;
+    private final UserRepository userRepository;
+
+    private Deck deck1;
+
+    @Autowired
+    public ReactiveCardRouterIntegrationTest(RouterFunction<ServerResponse> reactiveCardRoutes,
+            CardService cardService, UserService userService, DeckService deckService,
+            CardRepository cardRepository, DeckRepository deckRepository, UserRepository userRepository) {
+        this.webTestClientCard = WebTestClient.bindToRouterFunction(reactiveCardRoutes).build();
+        this.cardService = cardService;
+        this.userService = userService;
+        this.deckService = deckService;
+        this.cardRepository = cardRepository;
+        this.deckRepository = deckRepository;
+        this.userRepository = userRepository;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        User user1 = userService.addNewExternallyCreatedUser(UUID.randomUUID(), new Username("anyName"));
+        deck1 = deckService.createNewDeck(null, user1.getUserId(), new DeckName("anyDeckName"));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        cardRepository.deleteAll();
+        deckRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldAllowToFetchCardsById() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+
+        // when
+        CardResponseDto fetchedCard = webTestClientCard.get().uri("/cards/" + createdCard.getCardId())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CardResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assertThat(fetchedCard)
+                .isEqualTo(CardResponseDto.makeFromDefaultCard(createdCard));
+    }
+
+    @Test
+    public void shouldRespondWith404WhenFetchingUnknownCards() {
+        // when
+        // then
+        webTestClientCard.get().uri("/cards/" + UUID.randomUUID())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void shouldRespondWith400WhenFetchingCardsByInvalidDeckId() {
+        // when
+        // then
+        webTestClientCard.get().uri("/cards?deck-id=not-a-uuid")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void shouldAllowToFetchCardsByDeck() {
+        // given
+        DefaultCard card1 = cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        DefaultCard card2 = cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+
+        // when
+        List<CardResponseDto> fetchedCards = webTestClientCard.get()
+                .uri("/cards?deck-id=" + deck1.getDeckId() + "&card-status=active")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CardResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assertThat(fetchedCards)
+                .containsExactlyInAnyOrder(
+                        CardResponseDto.makeFromDefaultCard(card1),
+                        CardResponseDto.makeFromDefaultCard(card2));
+    }
+
+    @Test
+    public void shouldAllowToReviewCards() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+
+        // when
+        webTestClientCard.post().uri("/cards/" + createdCard.getCardId() + "/scheduler/activity/review")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ReviewRequestDto("normal"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        // then
+        AbstractCard reviewedCard = cardRepository.findById(createdCard.getCardId()).orElseThrow();
+        assertThat(reviewedCard.getScheduler().getReviewCount().getReviewCount())
+                .isEqualTo(1);
+        assertThat(reviewedCard.getVersion())
+                .isEqualTo(1L);
+    }
+}
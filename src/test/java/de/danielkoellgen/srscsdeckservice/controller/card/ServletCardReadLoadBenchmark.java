@@ -0,0 +1,23 @@
+package de.danielkoellgen.srscsdeckservice.controller.card;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
+import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.server.LocalServerPort;
+
+public class ServletCardReadLoadBenchmark extends CardReadLoadBenchmark {
+
+    @Autowired
+    public ServletCardReadLoadBenchmark(@LocalServerPort int port, UserService userService, DeckService deckService,
+            CardRepository cardRepository, DeckRepository deckRepository, UserRepository userRepository) {
+        super(port, userService, deckService, cardRepository, deckRepository, userRepository);
+    }
+
+    @Override
+    protected String getStackName() {
+        return "Servlet";
+    }
+}
@@ -4,6 +4,7 @@ import de.danielkoellgen.srscsdeckservice.controller.card.CardController;
 import de.danielkoellgen.srscsdeckservice.controller.card.dto.*;
 import de.danielkoellgen.srscsdeckservice.controller.deck.dto.DeckRequestDto;
 import de.danielkoellgen.srscsdeckservice.controller.deck.dto.DeckResponseDto;
+import de.danielkoellgen.srscsdeckservice.controller.deck.dto.PresetChangeResponseDto;
 import de.danielkoellgen.srscsdeckservice.controller.schedulerpreset.SchedulerPresetController;
 import de.danielkoellgen.srscsdeckservice.controller.schedulerpreset.dto.SchedulerPresetRequestDto;
 import de.danielkoellgen.srscsdeckservice.controller.schedulerpreset.dto.SchedulerPresetResponseDto;
@@ -177,6 +178,31 @@ public class DeckControllerIntegrationTest {
                 .isEqualTo(presetDto.schedulerPresetId());
     }
 
+    @Test
+    public void shouldReportUpdatedCardsWhenChangingPresets() {
+        // given
+        DeckResponseDto deckDto = externallyCreateDeck(new DeckRequestDto(user1.getUserId(), "anyName"));
+        externallyCreateDefaultCard(deckDto.deckId());
+        externallyCreateDefaultCard(deckDto.deckId());
+        SchedulerPresetResponseDto presetDto = externallyCreatePreset();
+
+        // when
+        PresetChangeResponseDto responseDto = webTestClientDeck.put()
+                .uri("/decks/"+deckDto.deckId()+"/scheduler-presets/"+presetDto.schedulerPresetId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PresetChangeResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+        assert responseDto != null;
+
+        // then
+        assertThat(responseDto.matchedCards())
+                .isEqualTo(2);
+        assertThat(responseDto.modifiedCards())
+                .isEqualTo(2);
+    }
+
     private @NotNull DeckResponseDto externallyCreateDeck(DeckRequestDto requestDto) {
         DeckResponseDto responseDto = webTestClientDeck.post().uri("/decks")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -1,25 +1,29 @@
 package de.danielkoellgen.srscsdeckservice.core.converter;
 
+import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
 import de.danielkoellgen.srscsdeckservice.events.producer.ProducerEvent;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.stereotype.Component;
 
 @Component
 @WritingConverter
-public class ProducerEventToConsumerRecordConverter implements Converter<ProducerEvent, ConsumerRecord<String, String>> {
+public class ProducerEventToConsumerRecordConverter implements Converter<ProducerEvent, ConsumerRecord<String, byte[]>> {
 
     @Override
-    public ConsumerRecord<String, String> convert(ProducerEvent event) {
-        ConsumerRecord<String, String> record = new ConsumerRecord<>(
-                event.getTopic(), 1, 1L, "", event.getSerializedContent()
+    public ConsumerRecord<String, byte[]> convert(ProducerEvent event) {
+        return convert(event, EventContentType.JSON);
+    }
+
+    public ConsumerRecord<String, byte[]> convert(ProducerEvent event, EventContentType contentType) {
+        ProducerRecord<String, byte[]> producerRecord = KafkaProducer.makeRecord(event, contentType);
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(
+                event.getTopic(), 1, 1L, producerRecord.key(), producerRecord.value()
         );
-        record.headers().add(new RecordHeader("eventId", event.getEventId().toString().getBytes()));
-        record.headers().add(new RecordHeader("transactionId", event.getTransactionId().toString().getBytes()));
-        record.headers().add(new RecordHeader("timestamp", event.getOccurredAt().getFormatted().getBytes()));
-        record.headers().add(new RecordHeader("type", event.getEventName().getBytes()));
+        producerRecord.headers().forEach(header -> record.headers().add(header));
         return record;
     }
 }
@@ -1,27 +1,53 @@
 package de.danielkoellgen.srscsdeckservice.domain.card;
 
+import de.danielkoellgen.srscsdeckservice.domain.card.application.CardArchiver;
 import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
 import de.danielkoellgen.srscsdeckservice.domain.card.domain.*;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardPage;
 import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.VersionedScheduler;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckDisableCascade;
 import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckCloneCheckpoint;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckDisableCheckpoint;
 import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckCloneCheckpointRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckDisableCheckpointRepository;
 import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetService;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.PresetName;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
 import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
 import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import de.danielkoellgen.srscsdeckservice.events.outbox.OutboxEventRepository;
+import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest
+@SpringBootTest(properties = {"decks.disableCascade.intervalMs=3600000", "cards.archive.intervalMs=3600000",
+        "outbox.relay.enabled=false"})
 public class CardServiceIntegrationTest {
 
     private final CardService cardService;
@@ -29,18 +55,39 @@ public class CardServiceIntegrationTest {
     private final DeckService deckService;
     private final CardRepository cardRepository;
     private final DeckRepository deckRepository;
+    private final SchedulerPresetService schedulerPresetService;
+    private final MongoTemplate mongoTemplate;
+    private final DeckDisableCascade deckDisableCascade;
+    private final DeckDisableCheckpointRepository deckDisableCheckpointRepository;
+    private final CardArchiver cardArchiver;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DeckCloneCheckpointRepository deckCloneCheckpointRepository;
 
     private User user1;
     private Deck deck1;
 
     @Autowired
     public CardServiceIntegrationTest(CardService cardService, UserService userService, DeckService deckService,
-            CardRepository cardRepository, DeckRepository deckRepository) {
+            CardRepository cardRepository, DeckRepository deckRepository,
+            SchedulerPresetService schedulerPresetService, MongoTemplate mongoTemplate,
+            DeckDisableCascade deckDisableCascade, DeckDisableCheckpointRepository deckDisableCheckpointRepository,
+            CardArchiver cardArchiver, OutboxEventRepository outboxEventRepository,
+            PlatformTransactionManager transactionManager,
+            DeckCloneCheckpointRepository deckCloneCheckpointRepository) {
         this.cardService = cardService;
         this.userService = userService;
         this.deckService = deckService;
         this.cardRepository = cardRepository;
         this.deckRepository = deckRepository;
+        this.schedulerPresetService = schedulerPresetService;
+        this.mongoTemplate = mongoTemplate;
+        this.deckDisableCascade = deckDisableCascade;
+        this.deckDisableCheckpointRepository = deckDisableCheckpointRepository;
+        this.cardArchiver = cardArchiver;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionManager = transactionManager;
+        this.deckCloneCheckpointRepository = deckCloneCheckpointRepository;
     }
 
     @BeforeEach
@@ -112,4 +159,253 @@ public class CardServiceIntegrationTest {
         assertThat(((DefaultCard) fetchedCard).getBackView())
                 .isNotNull();
     }
+
+    @Test
+    public void shouldFetchTypingCardsAsTypingCards() throws Exception {
+        // given
+        TypingCard createdCard = TypingCard.makeNew(deck1,
+                CompiledSchedulerPreset.makeFromPreset(new SchedulerPreset(new PresetName("anyName"), user1)));
+        cardRepository.save(createdCard);
+
+        // when
+        AbstractCard fetchedCard = cardRepository.findById(createdCard.getCardId()).orElseThrow();
+
+        // then
+        assertThat(fetchedCard instanceof TypingCard)
+                .isTrue();
+        assertThat(fetchedCard.getEmbeddedDeck().getDeckId())
+                .isEqualTo(deck1.getDeckId());
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenFetchingUnknownCard() {
+        // when
+        // then
+        assertThat(cardRepository.findById(UUID.randomUUID()))
+                .isEmpty();
+    }
+
+    @Test
+    public void shouldUpdateOnlySchedulerAndVersionWhenReviewingCard() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(
+                null, deck1.getDeckId(), new Hint(List.of(new TextElement("any Text"))), null, null
+        );
+
+        // when
+        cardService.reviewCard(createdCard.getCardId(), ReviewAction.NORMAL);
+
+        // then
+        DefaultCard fetchedCard = (DefaultCard) cardRepository.findById(createdCard.getCardId()).orElseThrow();
+        assertThat(fetchedCard.getVersion())
+                .isEqualTo(1L);
+        assertThat(fetchedCard.getScheduler().getReviewCount().getReviewCount())
+                .isEqualTo(1);
+        assertThat(fetchedCard.getHint())
+                .isNotNull();
+    }
+
+    @Test
+    public void shouldDetectConcurrentSchedulerUpdates() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(
+                null, deck1.getDeckId(), null, null, null
+        );
+        VersionedScheduler firstRead = cardRepository.findSchedulerById(createdCard.getCardId()).orElseThrow();
+        VersionedScheduler secondRead = cardRepository.findSchedulerById(createdCard.getCardId()).orElseThrow();
+
+        // when
+        firstRead.scheduler().review(ReviewAction.EASY);
+        cardRepository.updateScheduler(firstRead);
+        secondRead.scheduler().review(ReviewAction.LAPSE);
+
+        // then
+        assertThatThrownBy(() -> cardRepository.updateScheduler(secondRead))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    public void shouldReportBatchUpdateAsConflictingWhenVersionWasBumpedConcurrently() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(
+                null, deck1.getDeckId(), null, null, null
+        );
+        List<VersionedScheduler> batchRead = cardRepository.findSchedulersByIds(List.of(createdCard.getCardId()));
+        VersionedScheduler concurrentRead = cardRepository.findSchedulerById(createdCard.getCardId()).orElseThrow();
+        concurrentRead.scheduler().review(ReviewAction.EASY);
+        cardRepository.updateScheduler(concurrentRead);
+
+        // when
+        batchRead.get(0).scheduler().review(ReviewAction.LAPSE);
+        Set<UUID> conflictingCardIds = cardRepository.updateSchedulers(batchRead);
+
+        // then
+        assertThat(conflictingCardIds)
+                .containsExactly(createdCard.getCardId());
+    }
+
+    @Test
+    public void shouldNotDisableCardWhoseSchedulerHasBeenUpdatedConcurrently() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(
+                null, deck1.getDeckId(), null, null, null
+        );
+        AbstractCard staleCard = cardRepository.findById(createdCard.getCardId()).orElseThrow();
+        VersionedScheduler versionedScheduler = cardRepository.findSchedulerById(createdCard.getCardId()).orElseThrow();
+        versionedScheduler.scheduler().review(ReviewAction.EASY);
+        cardRepository.updateScheduler(versionedScheduler);
+
+        // when
+        staleCard.disableCard();
+
+        // then
+        assertThatThrownBy(() -> cardRepository.updateStatus(staleCard))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        AbstractCard fetchedCard = cardRepository.findById(createdCard.getCardId()).orElseThrow();
+        assertThat(fetchedCard.getIsActive())
+                .isTrue();
+        assertThat(fetchedCard.getScheduler().getReviewCount().getReviewCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCreateOnlyOneCardWhenCloneCardCommandIsExecutedTwice() {
+        // given
+        DefaultCard referenceCard = cardService.createDefaultCard(
+                null, deck1.getDeckId(), null, null, null
+        );
+        Deck targetDeck = deckService.createNewDeck(null, user1.getUserId(), new DeckName("anyTargetDeck"));
+        UUID commandId = UUID.randomUUID();
+
+        // when
+        cardService.cloneCard(null, commandId, referenceCard.getCardId(), targetDeck.getDeckId());
+        cardService.cloneCard(null, commandId, referenceCard.getCardId(), targetDeck.getDeckId());
+
+        // then
+        assertThat(cardRepository.findAllByEmbeddedDeck_DeckIdAndIsActive(targetDeck.getDeckId(), true))
+                .hasSize(1);
+    }
+
+    @Test
+    public void shouldPersistOnlyPresetReferenceAndResolvePresetWhenFetchingCard() throws Exception {
+        // given
+        SchedulerPreset preset = schedulerPresetService.createPreset(new PresetName("anyPreset"), user1.getUserId());
+        deckService.changePreset(deck1.getDeckId(), preset.getPresetId());
+
+        // when
+        DefaultCard createdCard = cardService.createDefaultCard(
+                null, deck1.getDeckId(), null, null, null
+        );
+
+        // then
+        Document document = mongoTemplate.findById(createdCard.getCardId(), Document.class, "default_cards");
+        assert document != null;
+        assertThat(document.get("scheduler", Document.class).get("scheduler_preset", Document.class).keySet())
+                .containsExactlyInAnyOrder("_id", "version");
+
+        // and then
+        AbstractCard fetchedCard = cardRepository.findById(createdCard.getCardId()).orElseThrow();
+        assertThat(fetchedCard.getScheduler().getSchedulerPreset().getPresetId())
+                .isEqualTo(preset.getPresetId());
+        assertThat(fetchedCard.getScheduler().getSchedulerPreset().getPresetName())
+                .isEqualTo(preset.getPresetName());
+    }
+
+    @Test
+    public void shouldDisableAllCardsOfDisabledDeck() {
+        // given
+        cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        cardRepository.save(TypingCard.makeNew(deck1, CompiledSchedulerPreset.DEFAULT));
+
+        // when
+        deckService.deleteDeck(deck1.getDeckId());
+        deckDisableCascade.processPending();
+
+        // then
+        assertThat(cardRepository.findAllByEmbeddedDeck_DeckIdAndIsActive(deck1.getDeckId(), true))
+                .isEmpty();
+        DeckDisableCheckpoint checkpoint = deckDisableCheckpointRepository.findById(deck1.getDeckId())
+                .orElseThrow();
+        assertThat(checkpoint.getIsCompleted())
+                .isTrue();
+        assertThat(checkpoint.getDisabledCount())
+                .isEqualTo(3L);
+    }
+
+    @Test
+    public void shouldRollBackDisabledCardsTogetherWithTheirEventAndCheckpoint() {
+        // given
+        cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        deckService.deleteDeck(deck1.getDeckId());
+        DeckDisableCheckpoint checkpoint = deckDisableCheckpointRepository.findById(deck1.getDeckId())
+                .orElseThrow();
+        outboxEventRepository.deleteAll();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cardService.disableNextCardChunk(checkpoint, 10);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cardRepository.findAllByEmbeddedDeck_DeckIdAndIsActive(deck1.getDeckId(), true))
+                .hasSize(2);
+        assertThat(outboxEventRepository.findAll())
+                .noneMatch(event -> new String(event.getHeaders().get("type"), StandardCharsets.US_ASCII)
+                        .equals("cards-disabled"));
+        assertThat(deckDisableCheckpointRepository.findById(deck1.getDeckId()).orElseThrow().getDisabledCount())
+                .isZero();
+    }
+
+    @Test
+    public void shouldRollBackClonedCardsTogetherWithTheirEventsAndCheckpoint() {
+        // given
+        cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        Deck targetDeck = deckService.createNewDeck(null, user1.getUserId(), new DeckName("anyTargetDeckName"));
+        DeckCloneCheckpoint checkpoint = new DeckCloneCheckpoint(targetDeck.getDeckId(), deck1.getDeckId());
+        outboxEventRepository.deleteAll();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cardService.cloneNextCardChunk(checkpoint, 10);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cardRepository.findAllByEmbeddedDeck_DeckId(targetDeck.getDeckId()))
+                .isEmpty();
+        assertThat(outboxEventRepository.findAll())
+                .isEmpty();
+        assertThat(deckCloneCheckpointRepository.findById(targetDeck.getDeckId()))
+                .isEmpty();
+    }
+
+    @Test
+    public void shouldArchiveLongDisabledCardsAndStillFindThemAsInactive() {
+        // given
+        DefaultCard createdCard = cardService.createDefaultCard(null, deck1.getDeckId(), null, null, null);
+        cardService.disableCard(createdCard.getCardId());
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(createdCard.getCardId())),
+                new Update().set("disabled_at", LocalDateTime.now().minusDays(365)), "default_cards");
+
+        // when
+        cardArchiver.archive();
+
+        // then
+        assertThat(mongoTemplate.findById(createdCard.getCardId(), Document.class, "default_cards"))
+                .isNull();
+        assertThat(mongoTemplate.findById(createdCard.getCardId(), Document.class, "default_cards_archive"))
+                .isNotNull();
+
+        // and then
+        assertThat(cardRepository.findById(createdCard.getCardId()))
+                .isPresent();
+        CardPage page = cardRepository.findPageByDeckId(deck1.getDeckId(), false, null, 10);
+        assertThat(page.cards())
+                .extracting(AbstractCard::getCardId)
+                .containsExactly(createdCard.getCardId());
+    }
 }
@@ -0,0 +1,127 @@
+package de.danielkoellgen.srscsdeckservice.domain.deck;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.AbstractCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.TypingCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.BulkUpdateResult;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.application.SchedulerPresetService;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.CompiledSchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.PresetName;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.repository.SchedulerPresetRepository;
+import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {"outbox.relay.enabled=false"})
+public class DeckPresetChangeBenchmark {
+
+    private static final int CARD_COUNT = 20_000;
+
+    private final DeckService deckService;
+    private final UserService userService;
+    private final SchedulerPresetService schedulerPresetService;
+    private final CardRepository cardRepository;
+    private final DeckRepository deckRepository;
+    private final UserRepository userRepository;
+    private final SchedulerPresetRepository schedulerPresetRepository;
+
+    private Deck loadAllDeck;
+    private Deck bulkDeck;
+    private SchedulerPreset preset;
+
+    private final Logger log = LoggerFactory.getLogger(DeckPresetChangeBenchmark.class);
+
+    @Autowired
+    public DeckPresetChangeBenchmark(DeckService deckService, UserService userService,
+            SchedulerPresetService schedulerPresetService, CardRepository cardRepository,
+            DeckRepository deckRepository, UserRepository userRepository,
+            SchedulerPresetRepository schedulerPresetRepository) {
+        this.deckService = deckService;
+        this.userService = userService;
+        this.schedulerPresetService = schedulerPresetService;
+        this.cardRepository = cardRepository;
+        this.deckRepository = deckRepository;
+        this.userRepository = userRepository;
+        this.schedulerPresetRepository = schedulerPresetRepository;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        User user = userService.addNewExternallyCreatedUser(UUID.randomUUID(), new Username("anyName"));
+        // Each path gets its own Deck, otherwise the second one would find every Card already on the new Preset.
+        loadAllDeck = deckService.createNewDeck(null, user.getUserId(), new DeckName("anyDeckName"));
+        bulkDeck = deckService.createNewDeck(null, user.getUserId(), new DeckName("anyOtherDeckName"));
+        preset = schedulerPresetService.createPreset(new PresetName("anyPreset"), user.getUserId());
+        insertCards(loadAllDeck);
+        insertCards(bulkDeck);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        cardRepository.deleteAll();
+        deckRepository.deleteAll();
+        userRepository.deleteAll();
+        schedulerPresetRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldReplacePresetsFasterServerSide() {
+        // given
+        long loadAllStartedAt = System.nanoTime();
+        List<AbstractCard> cards = cardRepository.findAllByEmbeddedDeck_DeckIdAndIsActive(loadAllDeck.getDeckId(),
+                true);
+        CompiledSchedulerPreset compiledPreset = CompiledSchedulerPreset.makeFromPreset(preset);
+        cards.forEach(card -> card.replaceSchedulerPreset(compiledPreset));
+        cardRepository.saveAll(cards);
+        Duration loadAllElapsed = Duration.ofNanos(System.nanoTime() - loadAllStartedAt);
+
+        // when
+        long bulkStartedAt = System.nanoTime();
+        BulkUpdateResult result = deckService.changePreset(bulkDeck.getDeckId(), preset.getPresetId());
+        Duration bulkElapsed = Duration.ofNanos(System.nanoTime() - bulkStartedAt);
+
+        // then
+        log.info("Replaced Presets of {} Cards: load-all/save-all in {} ms, updateMany in {} ms.",
+                CARD_COUNT, loadAllElapsed.toMillis(), bulkElapsed.toMillis());
+        assertThat(cards)
+                .hasSize(CARD_COUNT);
+        assertThat(result.matchedCount())
+                .isEqualTo(CARD_COUNT);
+        assertThat(result.modifiedCount())
+                .isEqualTo(CARD_COUNT);
+        assertThat(bulkElapsed)
+                .isLessThan(loadAllElapsed);
+    }
+
+    private void insertCards(Deck deck) {
+        List<AbstractCard> cards = new ArrayList<>();
+        IntStream.range(0, CARD_COUNT).forEach(i -> cards.add(i % 2 == 0
+                ? DefaultCard.makeNew(deck, CompiledSchedulerPreset.DEFAULT, null, null, null)
+                : TypingCard.makeNew(deck, CompiledSchedulerPreset.DEFAULT)));
+        cardRepository.insertAllIgnoringDuplicates(cards);
+    }
+}
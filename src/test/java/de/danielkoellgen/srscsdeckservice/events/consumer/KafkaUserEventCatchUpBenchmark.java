@@ -0,0 +1,88 @@
+package de.danielkoellgen.srscsdeckservice.events.consumer;
+
+import de.danielkoellgen.srscsdeckservice.core.events.producer.UserCreatedProd;
+import de.danielkoellgen.srscsdeckservice.core.events.producer.UserDisabledProd;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserCreatedDto;
+import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserDisabledDto;
+import de.danielkoellgen.srscsdeckservice.events.producer.KafkaProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@EmbeddedKafka(topics = {"cdc.users.0"}, partitions = 1)
+@SpringBootTest(properties = {
+        "kafka.bootstrapAddress=${spring.embedded.kafka.brokers}",
+        "kafka.consumer.autoOffsetReset=earliest",
+        "outbox.relay.enabled=false"
+})
+public class KafkaUserEventCatchUpBenchmark {
+
+    private static final int USER_COUNT = 200_000;
+
+    private final KafkaProducer kafkaProducer;
+
+    private final UserRepository userRepository;
+
+    private final MessageListenerContainer userEventContainer;
+
+    private final Logger log = LoggerFactory.getLogger(KafkaUserEventCatchUpBenchmark.class);
+
+    @Autowired
+    public KafkaUserEventCatchUpBenchmark(KafkaProducer kafkaProducer, UserRepository userRepository,
+            KafkaListenerEndpointRegistry listenerEndpointRegistry, @Value("${kafka.groupId}") String groupId) {
+        this.kafkaProducer = kafkaProducer;
+        this.userRepository = userRepository;
+        this.userEventContainer = listenerEndpointRegistry.getListenerContainer(groupId);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldCatchUpOnUserBacklog() throws Exception {
+        // given
+        userEventContainer.stop();
+        for (int i = 0; i < USER_COUNT; i++) {
+            UUID userId = UUID.randomUUID();
+            kafkaProducer.send(new UserCreatedProd(
+                    UUID.randomUUID().toString(), new UserCreatedDto(userId, "user" + (i % 100_000))));
+            if (i % 4 == 0) {
+                kafkaProducer.send(new UserDisabledProd(UUID.randomUUID().toString(), new UserDisabledDto(userId)));
+            }
+        }
+        kafkaProducer.flush();
+        int eventCount = USER_COUNT + USER_COUNT / 4;
+
+        // when
+        long startedAt = System.nanoTime();
+        userEventContainer.start();
+        Duration timeout = Duration.ofMinutes(10);
+        while (userRepository.count() < USER_COUNT && System.nanoTime() - startedAt < timeout.toNanos()) {
+            Thread.sleep(100);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        log.info("Caught up on {} user-events in {} ms ({} events/s).", eventCount, elapsed.toMillis(),
+                eventCount * 1000L / Math.max(1, elapsed.toMillis()));
+        assertThat(userRepository.count())
+                .isEqualTo(USER_COUNT);
+    }
+}
@@ -1,5 +1,6 @@
 package de.danielkoellgen.srscsdeckservice.events.consumer;
 
+import de.danielkoellgen.srscsdeckservice.core.converter.ProducerEventToConsumerRecordConverter;
 import de.danielkoellgen.srscsdeckservice.core.events.producer.UserCreatedProd;
 import de.danielkoellgen.srscsdeckservice.core.events.producer.UserDisabledProd;
 import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
@@ -11,14 +12,15 @@ import de.danielkoellgen.srscsdeckservice.events.consumer.user.UserCreated;
 import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserCreatedDto;
 import de.danielkoellgen.srscsdeckservice.events.consumer.user.dto.UserDisabledDto;
 import de.danielkoellgen.srscsdeckservice.events.producer.ProducerEvent;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.common.header.internals.RecordHeader;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -89,14 +91,57 @@ public class KafkaUserEventConsumerIntegrationTest {
                 .isFalse();
     }
 
-    private static ConsumerRecord<String, String> mapToConsumerRecord(ProducerEvent event) {
-        ConsumerRecord<String, String> record = new ConsumerRecord<>(
-                event.getTopic(), 1, 1L, "", event.getSerializedContent()
+    @Test
+    public void shouldCreateUserWhenReceivingBinaryEncodedUserCreatedEvent() throws Exception {
+        // given
+        UserCreatedProd userCreatedProd = new UserCreatedProd(
+                UUID.randomUUID().toString(), new UserCreatedDto(userId, username.getUsername())
+        );
+
+        // when
+        kafkaUserEventConsumer.receive(mapToConsumerRecord(userCreatedProd, EventContentType.CBOR));
+
+        // then
+        User fetchedUser = userRepository.findById(userId).orElseThrow();
+        assertThat(fetchedUser.getUsername())
+                .isEqualTo(username);
+    }
+
+    @Test
+    public void shouldCollapseUserEventsOfOneBatchIntoTheirFinalState() {
+        // given
+        UUID otherUserId = UUID.randomUUID();
+        userRepository.save(
+                new User(otherUserId, username)
+        );
+        List<ConsumerRecord<String, byte[]>> batch = List.of(
+                mapToConsumerRecord(new UserCreatedProd(
+                        UUID.randomUUID().toString(), new UserCreatedDto(userId, username.getUsername()))),
+                mapToConsumerRecord(new UserDisabledProd(
+                        UUID.randomUUID().toString(), new UserDisabledDto(userId))),
+                mapToConsumerRecord(new UserDisabledProd(
+                        UUID.randomUUID().toString(), new UserDisabledDto(otherUserId)))
         );
-        record.headers().add(new RecordHeader("eventId", event.getEventId().toString().getBytes()));
-        record.headers().add(new RecordHeader("transactionId", event.getTransactionId().toString().getBytes()));
-        record.headers().add(new RecordHeader("timestamp", event.getOccurredAt().getFormatted().getBytes()));
-        record.headers().add(new RecordHeader("type", event.getEventName().getBytes()));
-        return record;
+
+        // when
+        kafkaUserEventConsumer.receiveBatch(batch);
+
+        // then
+        User fetchedUser = userRepository.findById(userId).orElseThrow();
+        assertThat(fetchedUser.getUsername())
+                .isEqualTo(username);
+        assertThat(fetchedUser.getIsActive())
+                .isFalse();
+        assertThat(userRepository.findById(otherUserId).orElseThrow().getIsActive())
+                .isFalse();
+    }
+
+    private static ConsumerRecord<String, byte[]> mapToConsumerRecord(ProducerEvent event) {
+        return mapToConsumerRecord(event, EventContentType.JSON);
+    }
+
+    private static ConsumerRecord<String, byte[]> mapToConsumerRecord(ProducerEvent event,
+            EventContentType contentType) {
+        return new ProducerEventToConsumerRecordConverter().convert(event, contentType);
     }
 }
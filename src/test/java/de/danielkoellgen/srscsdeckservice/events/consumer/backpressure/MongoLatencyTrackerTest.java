@@ -0,0 +1,72 @@
+package de.danielkoellgen.srscsdeckservice.events.consumer.backpressure;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MongoLatencyTrackerTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    @Test
+    public void shouldFollowSustainedLatencyButNotSingleSpikes() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MongoLatencyTracker tracker = new MongoLatencyTracker(meterRegistry);
+
+        // when
+        tracker.record(1000);
+        double afterSpike = tracker.getAverageMillis();
+        for (int i = 0; i < 100; i++) {
+            tracker.record(300);
+        }
+
+        // then
+        assertThat(afterSpike)
+                .isLessThan(250);
+        assertThat(tracker.getAverageMillis())
+                .isBetween(290.0, 310.0);
+        assertThat(meterRegistry.get("mongodb.command.latency.ewma").gauge().value())
+                .isEqualTo(tracker.getAverageMillis());
+    }
+
+    @Test
+    public void shouldOnlyTrackCommandsIssuedInConsumerScope() {
+        // given
+        MongoLatencyTracker tracker = new MongoLatencyTracker(new SimpleMeterRegistry());
+
+        // when
+        execute(tracker, 1, "find", new BsonString("outbox_events"), 1000);
+        try (MongoLatencyTracker.ConsumerScope ignored = MongoLatencyTracker.openConsumerScope()) {
+            execute(tracker, 2, "ping", new BsonInt32(1), 1000);
+            execute(tracker, 3, "update", new BsonString("default_cards"), 100);
+        }
+        execute(tracker, 4, "update", new BsonString("default_cards"), 1000);
+
+        // then
+        assertThat(tracker.getAverageMillis())
+                .isEqualTo(10.0);
+    }
+
+    private static void execute(MongoLatencyTracker tracker, int requestId, String commandName, BsonValue target,
+            long elapsedMillis) {
+        tracker.commandStarted(new CommandStartedEvent(requestId, CONNECTION, "anyDatabase", commandName,
+                new BsonDocument(commandName, target)));
+        tracker.commandSucceeded(new CommandSucceededEvent(requestId, CONNECTION, commandName, new BsonDocument(),
+                TimeUnit.MILLISECONDS.toNanos(elapsedMillis)));
+    }
+}
@@ -0,0 +1,58 @@
+package de.danielkoellgen.srscsdeckservice.events.deadletter;
+
+import de.danielkoellgen.srscsdeckservice.events.retry.RetryTopics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeadLetterTest {
+
+    @Test
+    public void shouldReplayToFirstRetryTopicWithoutFailureHeaders() {
+        // given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(
+                "cmd.decks-cards.0-dlt", 0, 42L, "deck-id", "{}".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(new RecordHeader("type", "clone-deck".getBytes(StandardCharsets.US_ASCII)));
+        record.headers().add(new RecordHeader(KafkaHeaders.DLT_EXCEPTION_FQCN,
+                "java.util.NoSuchElementException".getBytes(StandardCharsets.UTF_8)));
+        record.headers().add(new RecordHeader(RetryTopics.RETRY_DUE_AT_HEADER, new byte[8]));
+
+        // when
+        DeadLetter deadLetter = DeadLetter.makeFromRecord(record);
+        ProducerRecord<String, byte[]> replayRecord = deadLetter.makeReplayRecord();
+
+        // then
+        assertThat(deadLetter.getExceptionClass())
+                .isEqualTo("java.util.NoSuchElementException");
+        assertThat(replayRecord.topic())
+                .isEqualTo("cmd.decks-cards.0-retry-1000");
+        assertThat(replayRecord.key())
+                .isEqualTo("deck-id");
+        assertThat(replayRecord.headers().toArray())
+                .extracting(header -> header.key())
+                .containsExactly("type");
+    }
+
+    @Test
+    public void shouldNotReplayLettersOfForeignTopics() {
+        // given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(
+                "cdc.users.0-dlt", 0, 42L, "user-id", "{}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        DeadLetter deadLetter = DeadLetter.makeFromRecord(record);
+
+        // then
+        assertThat(deadLetter.isReplayable())
+                .isFalse();
+        assertThatThrownBy(deadLetter::makeReplayRecord)
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package de.danielkoellgen.srscsdeckservice.events.outbox;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.application.CardService;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.repository.CardRepository;
+import de.danielkoellgen.srscsdeckservice.domain.deck.application.DeckService;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.DeckName;
+import de.danielkoellgen.srscsdeckservice.domain.deck.repository.DeckRepository;
+import de.danielkoellgen.srscsdeckservice.domain.user.application.UserService;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.User;
+import de.danielkoellgen.srscsdeckservice.domain.user.domain.Username;
+import de.danielkoellgen.srscsdeckservice.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+public class EventOutboxIntegrationTest {
+
+    private final CardService cardService;
+    private final DeckService deckService;
+    private final UserService userService;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CardRepository cardRepository;
+    private final DeckRepository deckRepository;
+    private final UserRepository userRepository;
+
+    private Deck deck;
+
+    @Autowired
+    public EventOutboxIntegrationTest(CardService cardService, DeckService deckService, UserService userService,
+            OutboxEventRepository outboxEventRepository, CardRepository cardRepository,
+            DeckRepository deckRepository, UserRepository userRepository) {
+        this.cardService = cardService;
+        this.deckService = deckService;
+        this.userService = userService;
+        this.outboxEventRepository = outboxEventRepository;
+        this.cardRepository = cardRepository;
+        this.deckRepository = deckRepository;
+        this.userRepository = userRepository;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        User user = userService.addNewExternallyCreatedUser(UUID.randomUUID(), new Username("anyName"));
+        deck = deckService.createNewDeck(null, user.getUserId(), new DeckName("anyDeckName"));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        outboxEventRepository.deleteAll();
+        cardRepository.deleteAll();
+        deckRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldEnqueueEventsInOrderOfTheirAggregateChanges() {
+        // given
+        outboxEventRepository.deleteAll();
+
+        // when
+        DefaultCard card = cardService.createDefaultCard(null, deck.getDeckId(), null, null, null);
+        cardService.disableCard(card.getCardId());
+
+        // then
+        List<OutboxEvent> outboxedEvents = outboxEventRepository.findByOrderByIdAsc(PageRequest.of(0, 10));
+        assertThat(outboxedEvents.stream().map(event -> new String(event.getHeaders().get("type"), StandardCharsets.US_ASCII)))
+                .containsExactly("card-created", "card-disabled");
+        assertThat(outboxedEvents)
+                .allMatch(event -> event.getTopic().equals("cdc.decks-cards.0"))
+                .allMatch(event -> new String(event.getValue(), StandardCharsets.UTF_8).contains(card.getCardId().toString()));
+    }
+
+    @Test
+    public void shouldRepublishDeckCreatedWhenResumingAnInterruptedDeckClone() {
+        // given
+        UUID commandId = UUID.randomUUID();
+        Deck clonedDeck = deckService.cloneDeck(null, commandId, deck.getDeckId(), deck.getUserId(),
+                new DeckName("anyClonedDeckName"));
+        outboxEventRepository.deleteAll();
+
+        // when
+        Deck resumedDeck = deckService.cloneDeck(null, commandId, deck.getDeckId(), deck.getUserId(),
+                new DeckName("anyClonedDeckName"));
+
+        // then
+        assertThat(resumedDeck.getDeckId())
+                .isEqualTo(clonedDeck.getDeckId());
+        List<OutboxEvent> outboxedEvents = outboxEventRepository.findByOrderByIdAsc(PageRequest.of(0, 10));
+        assertThat(outboxedEvents.stream().map(event -> new String(event.getHeaders().get("type"), StandardCharsets.US_ASCII)))
+                .containsExactly("deck-created");
+        assertThat(new String(outboxedEvents.get(0).getValue(), StandardCharsets.UTF_8))
+                .contains(clonedDeck.getDeckId().toString());
+    }
+}
@@ -0,0 +1,81 @@
+package de.danielkoellgen.srscsdeckservice.events.producer;
+
+import de.danielkoellgen.srscsdeckservice.events.producer.card.CardCreated;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.CardDisabled;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardCreatedDto;
+import de.danielkoellgen.srscsdeckservice.events.producer.card.dto.CardDisabledDto;
+import de.danielkoellgen.srscsdeckservice.events.producer.deck.DeckCreated;
+import de.danielkoellgen.srscsdeckservice.events.producer.deck.dto.DeckCreatedDto;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventContentType;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventEnvelope;
+import de.danielkoellgen.srscsdeckservice.events.serialization.EventSerializer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KafkaProducerTest {
+
+    @Test
+    public void shouldKeyCardRecordsByCardId() {
+        // given
+        UUID cardId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        CardCreated cardCreated = new CardCreated("1", null,
+                new CardCreatedDto(cardId, UUID.randomUUID(), userId));
+        CardDisabled cardDisabled = new CardDisabled("2", new CardDisabledDto(cardId, userId));
+
+        // when
+        ProducerRecord<String, byte[]> createdRecord = KafkaProducer.makeRecord(cardCreated);
+        ProducerRecord<String, byte[]> disabledRecord = KafkaProducer.makeRecord(cardDisabled);
+
+        // then
+        assertThat(createdRecord.key())
+                .isEqualTo(cardId.toString());
+        assertThat(disabledRecord.key())
+                .isEqualTo(createdRecord.key());
+        assertThat(disabledRecord.topic())
+                .isEqualTo(createdRecord.topic());
+    }
+
+    @Test
+    public void shouldKeyDeckRecordsByDeckId() {
+        // given
+        UUID deckId = UUID.randomUUID();
+        DeckCreated deckCreated = new DeckCreated("1", null,
+                new DeckCreatedDto(deckId, UUID.randomUUID(), "deck"));
+
+        // when
+        ProducerRecord<String, byte[]> record = KafkaProducer.makeRecord(deckCreated);
+
+        // then
+        assertThat(record.key())
+                .isEqualTo(deckId.toString());
+    }
+
+    @Test
+    public void shouldEncodeBinaryEnvelopeCompactly() throws Exception {
+        // given
+        UUID cardId = UUID.randomUUID();
+        CardCreated cardCreated = new CardCreated("1", UUID.randomUUID(),
+                new CardCreatedDto(cardId, UUID.randomUUID(), UUID.randomUUID()));
+
+        // when
+        ProducerRecord<String, byte[]> jsonRecord = KafkaProducer.makeRecord(cardCreated, EventContentType.JSON);
+        ProducerRecord<String, byte[]> cborRecord = KafkaProducer.makeRecord(cardCreated, EventContentType.CBOR);
+
+        // then
+        assertThat(cborRecord.headers().lastHeader("eventId").value())
+                .hasSize(16);
+        assertThat(cborRecord.headers().lastHeader("timestamp").value())
+                .hasSize(8);
+        assertThat(cborRecord.value().length)
+                .isLessThan(jsonRecord.value().length);
+        assertThat(EventEnvelope.readUuid(cborRecord.headers(), "correlationId", EventContentType.CBOR))
+                .isEqualTo(cardCreated.getCorrelationId());
+        assertThat(EventSerializer.deserialize(cborRecord.value(), EventContentType.CBOR, CardCreatedDto.class))
+                .isEqualTo(cardCreated.getPayload());
+    }
+}
@@ -0,0 +1,47 @@
+package de.danielkoellgen.srscsdeckservice.events.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryTopicsTest {
+
+    @Test
+    public void shouldWalkThroughEveryRetryTierBeforeTheDeadLetterTopic() {
+        // given
+        String topic = "cmd.decks-cards.0";
+
+        // when
+        String firstRetry = RetryTopics.getNextTopic(topic);
+        String secondRetry = RetryTopics.getNextTopic(firstRetry);
+        String thirdRetry = RetryTopics.getNextTopic(secondRetry);
+        String deadLetter = RetryTopics.getNextTopic(thirdRetry);
+
+        // then
+        assertThat(firstRetry)
+                .isEqualTo("cmd.decks-cards.0-retry-1000");
+        assertThat(secondRetry)
+                .isEqualTo("cmd.decks-cards.0-retry-10000");
+        assertThat(thirdRetry)
+                .isEqualTo("cmd.decks-cards.0-retry-60000");
+        assertThat(deadLetter)
+                .isEqualTo("cmd.decks-cards.0-dlt");
+    }
+
+    @Test
+    public void shouldResolveOriginalTopicAndBackoffFromRetryTopic() {
+        // when
+        String originalTopic = RetryTopics.getOriginalTopic("cmd.decks-cards.0-retry-10000");
+        Duration backoff = RetryTopics.getBackoff("cmd.decks-cards.0-retry-10000");
+
+        // then
+        assertThat(originalTopic)
+                .isEqualTo("cmd.decks-cards.0");
+        assertThat(backoff)
+                .isEqualTo(Duration.ofSeconds(10));
+        assertThat(RetryTopics.getOriginalTopic("cdc.users.0-dlt"))
+                .isEqualTo("cdc.users.0");
+    }
+}
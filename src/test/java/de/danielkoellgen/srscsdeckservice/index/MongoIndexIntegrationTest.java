@@ -0,0 +1,151 @@
+package de.danielkoellgen.srscsdeckservice.index;
+
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.DefaultCard;
+import de.danielkoellgen.srscsdeckservice.domain.card.domain.TypingCard;
+import de.danielkoellgen.srscsdeckservice.domain.deck.domain.Deck;
+import de.danielkoellgen.srscsdeckservice.domain.schedulerpreset.domain.SchedulerPreset;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class MongoIndexIntegrationTest {
+
+    private final MongoIndexManager mongoIndexManager;
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public MongoIndexIntegrationTest(MongoIndexManager mongoIndexManager, MongoTemplate mongoTemplate) {
+        this.mongoIndexManager = mongoIndexManager;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        mongoIndexManager.ensureIndexes();
+    }
+
+    @Test
+    public void shouldReportNoMissingIndexes() {
+        // when
+        // then
+        assertThat(mongoIndexManager.getIndexReport())
+                .allSatisfy(report -> assertThat(report.missingIndexes()).isEmpty());
+    }
+
+    @Test
+    public void shouldUseIndexWhenFetchingCardsByDeck() {
+        // given
+        Document filter = new Document("deck.deck_id", UUID.randomUUID());
+
+        // when
+        // then
+        assertIndexScan(DefaultCard.class, filter, null);
+        assertIndexScan(TypingCard.class, filter, null);
+    }
+
+    @Test
+    public void shouldUseIndexWhenFetchingCardsByDeckAndStatus() {
+        // given
+        Document filter = new Document("deck.deck_id", UUID.randomUUID())
+                .append("is_active", true);
+
+        // when
+        // then
+        assertIndexScan(DefaultCard.class, filter, null);
+        assertIndexScan(TypingCard.class, filter, null);
+    }
+
+    @Test
+    public void shouldRequireKeysetIndexOnCardCollections() {
+        // when
+        // then
+        assertThat(mongoIndexManager.getRequiredIndexes(DefaultCard.class))
+                .anySatisfy(index -> assertThat(index.getIndexOptions().getString("name")).isEqualTo("deck_keyset"));
+        assertThat(mongoIndexManager.getRequiredIndexes(TypingCard.class))
+                .anySatisfy(index -> assertThat(index.getIndexOptions().getString("name")).isEqualTo("deck_keyset"));
+    }
+
+    @Test
+    public void shouldUseIndexWithoutSortWhenPagingCardsByDeck() {
+        // given
+        Document activeFilter = new Document("deck.deck_id", UUID.randomUUID())
+                .append("is_active", true)
+                .append("_id", new Document("$gt", UUID.randomUUID()));
+        Document anyStatusFilter = new Document("deck.deck_id", UUID.randomUUID())
+                .append("is_active", new Document("$in", List.of(true, false)))
+                .append("_id", new Document("$gt", UUID.randomUUID()));
+        Document sort = new Document("_id", 1);
+
+        // when
+        // then
+        assertIndexScanWithoutSort(DefaultCard.class, activeFilter, sort);
+        assertIndexScanWithoutSort(TypingCard.class, activeFilter, sort);
+        assertIndexScanWithoutSort(DefaultCard.class, anyStatusFilter, sort);
+        assertIndexScanWithoutSort(TypingCard.class, anyStatusFilter, sort);
+    }
+
+    @Test
+    public void shouldUseIndexWhenFetchingDueCards() {
+        // given
+        Document filter = new Document("deck.deck_id", UUID.randomUUID())
+                .append("is_active", true)
+                .append("scheduler.next_review.date_time", new Document("$lte", LocalDateTime.now()));
+        Document sort = new Document("scheduler.next_review.date_time", 1);
+
+        // when
+        // then
+        assertIndexScan(DefaultCard.class, filter, sort);
+        assertIndexScan(TypingCard.class, filter, sort);
+    }
+
+    @Test
+    public void shouldUseIndexWhenFetchingDecksByUser() {
+        // when
+        // then
+        assertIndexScan(Deck.class, new Document("user._id", UUID.randomUUID()), null);
+    }
+
+    @Test
+    public void shouldUseIndexWhenFetchingPresetsByUser() {
+        // when
+        // then
+        assertIndexScan(SchedulerPreset.class, new Document("user.user_id", UUID.randomUUID()), null);
+    }
+
+    private void assertIndexScan(@NotNull Class<?> documentClass, @NotNull Document filter,
+            @Nullable Document sort) {
+        assertThat(explainWinningPlan(documentClass, filter, sort))
+                .contains("IXSCAN")
+                .doesNotContain("COLLSCAN");
+    }
+
+    private void assertIndexScanWithoutSort(@NotNull Class<?> documentClass, @NotNull Document filter,
+            @NotNull Document sort) {
+        assertThat(explainWinningPlan(documentClass, filter, sort))
+                .contains("IXSCAN")
+                .doesNotContain("COLLSCAN")
+                .doesNotContain("\"stage\": \"SORT\"");
+    }
+
+    private @NotNull String explainWinningPlan(@NotNull Class<?> documentClass, @NotNull Document filter,
+            @Nullable Document sort) {
+        Document explanation = mongoTemplate.getCollection(mongoTemplate.getCollectionName(documentClass))
+                .find(filter)
+                .sort(sort)
+                .explain();
+        return explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class)
+                .toJson();
+    }
+}